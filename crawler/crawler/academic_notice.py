@@ -3,9 +3,9 @@ import pymysql
 import hashlib
 from bs4 import BeautifulSoup
 import urllib3
-import datetime
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 
 # SSL 경고 무시
 urllib3.disable_warnings(urllib3.exceptions.InsecureRequestWarning)
@@ -14,11 +14,7 @@ urllib3.disable_warnings(urllib3.exceptions.InsecureRequestWarning)
 load_dotenv(dotenv_path="/root/hknu_scraper/.env")
 
 def clean_date(date_str):
-    try:
-        dt = datetime.datetime.strptime(date_str.strip(), "%Y.%m.%d")
-        return dt.strftime("%Y-%m-%d")
-    except ValueError:
-        return date_str.strip()
+    return to_iso_date(date_str)
 
 def generate_hash(title, link):
     return hashlib.sha256(f"{title}_{link}".encode("utf-8")).hexdigest()
@@ -98,6 +94,9 @@ def run_academic_notice():
             title = ' '.join(title_tag.text.split())
             href = "https://www.hknu.ac.kr" + title_tag['href']
             date = clean_date(date_tag.get_text(strip=True))
+            if not date:
+                print(f"⚠️ 날짜 형식 오류로 건너뜀: {title} | {date_tag.get_text(strip=True)}")
+                continue
             author = author_tag.get_text(strip=True) if author_tag else "작성자 없음"
             hash_value = generate_hash(title, href)
 
@@ -6,6 +6,7 @@ import re
 import hashlib
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 
 # .env 파일 로드
 load_dotenv(dotenv_path="/root/hknu_scraper/.env")
@@ -90,6 +91,10 @@ def run_academic_schedule():
                     continue
 
                 start_date, _, last_month = normalize_dates(content, last_month)
+                start_date = to_iso_date(start_date)
+                if not start_date:
+                    print(f"⚠️ 날짜 형식 오류로 건너뜀: {content}")
+                    continue
                 hash_val = generate_hash(start_date, content)
 
                 if hash_val in existing_hashes:
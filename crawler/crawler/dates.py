@@ -0,0 +1,19 @@
+import datetime
+import re
+
+# 2025.07.01 / 2025-7-1 / 2025/07/01(화) 처럼 연-월-일이 들어 있는 문자열
+DATE_PATTERN = re.compile(r"(\d{4})\s*[.\-/]\s*(\d{1,2})\s*[.\-/]\s*(\d{1,2})")
+
+
+def to_iso_date(text):
+    """날짜 문자열을 'YYYY-MM-DD'로 바꿉니다.
+    서버의 날짜 컬럼은 MySQL DATE 타입이라 형식이 맞지 않는 값은 INSERT가 거부되므로,
+    날짜로 읽을 수 없으면 None을 반환하고 호출 측에서 해당 행을 건너뜁니다."""
+    match = DATE_PATTERN.search(text or "")
+    if not match:
+        return None
+    try:
+        year, month, day = (int(group) for group in match.groups())
+        return datetime.date(year, month, day).isoformat()
+    except ValueError:
+        return None
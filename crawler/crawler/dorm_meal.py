@@ -3,10 +3,10 @@ import requests
 from bs4 import BeautifulSoup
 import pymysql
 import hashlib
-from datetime import datetime
 import re
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 
 # .env 로드
 load_dotenv(dotenv_path="/root/hknu_scraper/.env")
@@ -70,11 +70,10 @@ def run_dorm_meal():
 
                 if date_tag and menu_ul:
                     raw_date = date_tag.get_text(strip=True)[:10]
-                    try:
-                        date_obj = datetime.strptime(raw_date, "%Y.%m.%d")
-                        date_formatted = date_obj.strftime("%Y-%m-%d")
-                    except ValueError:
-                        date_formatted = f"2025-06-{raw_date.zfill(2)}"
+                    date_formatted = to_iso_date(raw_date)
+                    if not date_formatted:
+                        print(f"⚠️ 날짜 형식 오류로 건너뜀: {raw_date}")
+                        continue
 
                     menu_items = [
                         clean_menu_text(li.get_text())
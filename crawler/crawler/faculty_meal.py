@@ -7,6 +7,7 @@ import re
 from collections import defaultdict
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 
 # .env 파일 로드
 load_dotenv(dotenv_path="/root/hknu_scraper/.env")
@@ -15,10 +16,8 @@ load_dotenv(dotenv_path="/root/hknu_scraper/.env")
 urllib3.disable_warnings(urllib3.exceptions.InsecureRequestWarning)
 
 def clean_date(date_str):
-    match = re.match(r"(\d{4})\.(\d{2})\.(\d{2})", date_str)
-    if match:
-        return f"{match.group(1)}-{match.group(2)}-{match.group(3)}"
-    return date_str.strip()
+    # 날짜로 읽을 수 없으면 None → 다음 날짜 행이 나올 때까지 식단 행을 건너뜀
+    return to_iso_date(date_str)
 
 def clean_menu_item(item):
     item = item.strip()
@@ -5,6 +5,7 @@ from bs4 import BeautifulSoup
 import urllib3
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 
 # .env 로드
 load_dotenv(dotenv_path="/root/hknu_scraper/.env")
@@ -13,7 +14,7 @@ load_dotenv(dotenv_path="/root/hknu_scraper/.env")
 urllib3.disable_warnings(urllib3.exceptions.InsecureRequestWarning)
 
 def clean_date(date_str):
-    return date_str.strip().replace(".", "-").split("(")[0]
+    return to_iso_date(date_str)
 
 def generate_hash(title, link):
     return hashlib.sha256((title + link).encode("utf-8")).hexdigest()
@@ -91,6 +92,9 @@ def run_hankyong_notice():
             title = ' '.join(title_tag.text.split())
             href = "https://www.hknu.ac.kr" + title_tag['href']
             date = clean_date(date_tag.get_text(strip=True))
+            if not date:
+                print(f"⚠️ 날짜 형식 오류로 건너뜀: {title} | {date_tag.get_text(strip=True)}")
+                continue
             author = author_tag.get_text(strip=True) if author_tag else "작성자 없음"
             hash_val = generate_hash(title, href)
 
@@ -3,9 +3,9 @@ from bs4 import BeautifulSoup
 import urllib3
 import pymysql
 import hashlib
-import re
 import os
 from dotenv import load_dotenv
+from crawler.dates import to_iso_date
 from collections import defaultdict
 
 # .env 로드
@@ -15,10 +15,8 @@ load_dotenv(dotenv_path="/root/hknu_scraper/.env")
 urllib3.disable_warnings(urllib3.exceptions.InsecureRequestWarning)
 
 def clean_date(date_str):
-    match = re.match(r"(\d{4})\.(\d{2})\.(\d{2})", date_str)
-    if match:
-        return f"{match.group(1)}-{match.group(2)}-{match.group(3)}"
-    return date_str.strip()
+    # 날짜로 읽을 수 없으면 None → 다음 날짜 행이 나올 때까지 식단 행을 건너뜀
+    return to_iso_date(date_str)
 
 def make_hash(date, time, menu):
     return hashlib.sha256((date + time + menu).encode("utf-8")).hexdigest()
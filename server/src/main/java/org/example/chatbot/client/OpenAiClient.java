@@ -0,0 +1,261 @@
+package org.example.chatbot.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.ChatCompletionChunkDto;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.example.chatbot.dto.ChatMessageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * OpenAI chat-completions 전용 HTTP 클라이언트입니다.
+ * JDK HttpClient 하나를 애플리케이션 전체에서 공유하므로 keep-alive 커넥션 풀과 HTTP/2 멀티플렉싱을 그대로 활용하고,
+ * 모든 호출은 CompletableFuture로 반환되어 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiClient {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.api.key}")
+    private String apiKey;
+
+    @Value("${openai.api.url}")
+    private String apiUrl;
+
+    @Value("${openai.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${openai.http.request-timeout:30s}")
+    private Duration requestTimeout;
+
+    /**
+     * 지정하면 성공한 (비스트리밍) 응답을 {"system", "user", "content"} JSON Lines로 기록합니다. (스텁 서버 카세트용)
+     */
+    @Value("${openai.cassette.record-path:}")
+    private String cassetteRecordPath;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    public CompletableFuture<ChatCompletionResponseDto> chatAsync(ChatCompletionRequestDto request) {
+        return chatAsync(request, requestTimeout);
+    }
+
+    /**
+     * chat-completions 요청을 비동기로 전송합니다.
+     * 2xx 이외의 응답은 OpenAiException으로, 타임아웃은 HttpTimeoutException으로 future가 실패합니다.
+     */
+    public CompletableFuture<ChatCompletionResponseDto> chatAsync(ChatCompletionRequestDto request, Duration timeout) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = newRequest(request, timeout);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new OpenAiException("요청 직렬화 실패", e));
+        }
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::readResponse)
+                .whenComplete((response, error) -> {
+                    if (response != null && !cassetteRecordPath.isBlank()) recordCassette(request, response);
+                });
+    }
+
+    /**
+     * stream=true로 요청을 보내고, 토큰 조각(delta)이 도착할 때마다 onDelta를 호출합니다.
+     * future는 스트림이 끝나면 조각을 합친 응답(토큰 사용량 포함)으로 완료됩니다.
+     * HttpRequest.timeout은 응답 헤더까지만 제한하므로, timeout이 지나면 future를 TimeoutException으로 실패시키고
+     * 본문 구독과 요청을 취소해 업스트림 스트림을 끊습니다. (future를 취소해도 같은 방식으로 끊김)
+     */
+    public CompletableFuture<ChatCompletionResponseDto> streamChatAsync(ChatCompletionRequestDto request, Duration timeout, Consumer<String> onDelta) {
+        request.setStream(true);
+        request.setStreamOptions(Map.of("include_usage", true));
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(apiUrl))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + apiKey)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new OpenAiException("요청 직렬화 실패", e));
+        }
+
+        DeltaSubscriber subscriber = new DeltaSubscriber(onDelta);
+        HttpResponse.BodyHandler<ChatCompletionResponseDto> handler = responseInfo -> {
+            if (responseInfo.statusCode() / 100 != 2) {
+                return HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                        body -> {
+                            throw new OpenAiException(responseInfo.statusCode(), body);
+                        });
+            }
+            return HttpResponse.BodySubscribers.fromLineSubscriber(
+                    subscriber, DeltaSubscriber::response, StandardCharsets.UTF_8, "\n");
+        };
+
+        CompletableFuture<HttpResponse<ChatCompletionResponseDto>> exchange = httpClient.sendAsync(httpRequest, handler);
+        CompletableFuture<ChatCompletionResponseDto> response = exchange.thenApply(HttpResponse::body);
+        response.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((body, error) -> {
+            if (error == null) return;
+            subscriber.cancel();
+            exchange.cancel(true);
+        });
+        return response;
+    }
+
+    private HttpRequest newRequest(ChatCompletionRequestDto request, Duration timeout) throws IOException {
+        return HttpRequest.newBuilder(URI.create(apiUrl))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                .build();
+    }
+
+    private ChatCompletionResponseDto readResponse(HttpResponse<byte[]> response) {
+        try {
+            byte[] body = decode(response);
+            if (response.statusCode() / 100 != 2) {
+                throw new OpenAiException(response.statusCode(), new String(body, StandardCharsets.UTF_8));
+            }
+            return objectMapper.readValue(body, ChatCompletionResponseDto.class);
+        } catch (IOException e) {
+            throw new OpenAiException("응답 해석 실패", e);
+        }
+    }
+
+    private synchronized void recordCassette(ChatCompletionRequestDto request, ChatCompletionResponseDto response) {
+        List<ChatMessageDto> messages = request.getMessages();
+        if (messages == null || messages.isEmpty() || response.firstContent() == null) return;
+
+        Map<String, String> entry = new LinkedHashMap<>();
+        for (ChatMessageDto message : messages) {
+            entry.put(message.getRole(), message.getContent());
+        }
+        entry.put("content", response.getChoices().get(0).getMessage().getContent());
+        try {
+            Files.writeString(Path.of(cassetteRecordPath), objectMapper.writeValueAsString(entry) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("❗ 카세트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private byte[] decode(HttpResponse<byte[]> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(v -> v.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (!gzip) return response.body();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * SSE 본문을 줄 단위로 받아 "data: {...}" 청크의 delta를 꺼내는 구독자
+     */
+    private class DeltaSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onDelta;
+        private final StringBuilder content = new StringBuilder();
+        private ChatCompletionResponseDto.Usage usage;
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+
+        DeltaSubscriber(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        /**
+         * 시간 초과/취소 시 남은 본문을 더 받지 않고 onDelta 호출도 멈춥니다. (구독 전이면 구독 즉시 취소)
+         */
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) current.cancel();
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (cancelled || !line.startsWith("data:")) return;
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || "[DONE]".equals(data)) return;
+
+            try {
+                ChatCompletionChunkDto chunk = objectMapper.readValue(data, ChatCompletionChunkDto.class);
+                if (chunk.getUsage() != null) {
+                    usage = chunk.getUsage();
+                }
+                String delta = chunk.deltaContent();
+                if (!delta.isEmpty()) {
+                    content.append(delta);
+                    onDelta.accept(delta);
+                }
+            } catch (IOException e) {
+                log.warn("❗ 스트리밍 청크 해석 실패: {}", data);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        ChatCompletionResponseDto response() {
+            return ChatCompletionResponseDto.assembled(content.toString(), usage);
+        }
+    }
+}
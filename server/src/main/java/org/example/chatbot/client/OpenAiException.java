@@ -0,0 +1,22 @@
+package org.example.chatbot.client;
+
+import lombok.Getter;
+
+/**
+ * OpenAI API 호출이 2xx 이외의 상태 코드로 끝났거나 응답을 해석할 수 없을 때 발생합니다.
+ */
+@Getter
+public class OpenAiException extends RuntimeException {
+
+    private final int statusCode;
+
+    public OpenAiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public OpenAiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.chatbot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * /api/chat/intent 처리 전용 스레드 풀
+     * GPT 응답을 기다리는 동안 Tomcat 요청 스레드를 반환해, 느린 LLM 응답이 조회 API까지 막지 않도록 분리합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chatExecutor(
+            @Value("${chatbot.chat-executor.core-size:16}") int coreSize,
+            @Value("${chatbot.chat-executor.max-size:64}") int maxSize,
+            @Value("${chatbot.chat-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * intent 분류(GPT) 대기 중 식단/공지 데이터를 미리 조회하는 스레드 풀 (ChatDataPrefetcher)
+     * 가득 차면 선조회를 건너뛰고 분류 후 평소처럼 조회합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor prefetchExecutor(
+            @Value("${chatbot.prefetch.executor.core-size:8}") int coreSize,
+            @Value("${chatbot.prefetch.executor.max-size:16}") int maxSize,
+            @Value("${chatbot.prefetch.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("prefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 기숙사 식단 GPT 포맷팅 배치 전용 스레드 풀 (DormMealFormatterScheduler)
+     * 스레드 수가 곧 동시 GPT 호출 수이며, 대기열이 가득 차면 스케줄러 스레드가 직접 실행해 속도를 늦춥니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor formatterExecutor(
+            @Value("${chatbot.dorm-meal-format.concurrency:4}") int concurrency,
+            @Value("${chatbot.dorm-meal-format.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, concurrency));
+        executor.setMaxPoolSize(Math.max(1, concurrency));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("meal-format-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 로컬 intent 분류기의 학습 로그 파일 기록 전용 스레드 (LocalIntentClassifier)
+     * 한 스레드가 순서대로 기록하며, 대기열이 가득 차면 해당 로그를 버립니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor trainingLogExecutor(
+            @Value("${chatbot.local-classifier.training-log-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("training-log-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -11,10 +11,15 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * 캐시 키 접두사는 엔티티 직렬화 형식이 바뀔 때(serialVersionUID 변경) 함께 올려,
+     * 이전 형식으로 저장된 값을 읽다 역직렬화에 실패하지 않도록 합니다.
+     */
     @Bean
     public RedisCacheConfiguration redisCacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(6))
+                .prefixCacheNameWith("v2:")
                 .disableCachingNullValues();
     }
 }
\ No newline at end of file
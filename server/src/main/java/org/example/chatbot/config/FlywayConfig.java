@@ -0,0 +1,24 @@
+package org.example.chatbot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 스키마 마이그레이션 (src/main/resources/db/migration)
+     * 이전까지 테이블은 크롤러/ddl-auto로 만들어졌으므로, 이력 테이블이 없는 기존 DB는 V1(기존 스키마)을 baseline으로 표시하고
+     * V2(DATE 컬럼 변환 + 인덱스)부터 적용합니다. 빈 DB에서는 V1부터 모두 실행합니다.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema(
+            @Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate,
+            @Value("${spring.flyway.baseline-version:1}") String baselineVersion) {
+        return configuration -> configuration
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion(baselineVersion);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.example.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.chatbot.service.GptStage;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GPT 호출 단계별 설정 (openai.stages.&lt;단계&gt;.*)
+ * 키는 GptStage.tag() 값(normalize, classify, one-shot, fallback, format-meal)이며,
+ * 지정하지 않은 항목은 openai.api.model / GptStage 기본 max_tokens / temperature 0 / 요청 시간 예산을 그대로 사용합니다.
+ *
+ * <pre>
+ * openai:
+ *   stages:
+ *     normalize:
+ *       model: gpt-4o-mini
+ *       max-tokens: 250
+ *       timeout: 3s
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openai")
+public class GptStageProperties {
+
+    private static final Stage DEFAULTS = new Stage();
+
+    private Map<String, Stage> stages = new HashMap<>();
+
+    public Stage get(GptStage stage) {
+        return stages.getOrDefault(stage.tag(), DEFAULTS);
+    }
+
+    @Getter
+    @Setter
+    public static class Stage {
+
+        private String model;
+
+        /**
+         * 출력 토큰 상한 (format-meal은 식단 한 건당 값이며, 배치 호출은 건수만큼 곱해 사용)
+         */
+        private Integer maxTokens;
+
+        private Double temperature;
+
+        /**
+         * 이 단계 호출 한 건의 시간 제한. 요청 전체 시간 예산(openai.deadline.*)이 더 짧으면 그쪽을 따릅니다.
+         */
+        private Duration timeout;
+
+        /**
+         * 이 단계 모델의 100만 토큰당 가격 (USD). 지정하지 않으면 openai.pricing.* 값을 사용합니다.
+         */
+        private Double promptPrice;
+        private Double cachedPromptPrice;
+        private Double completionPrice;
+    }
+}
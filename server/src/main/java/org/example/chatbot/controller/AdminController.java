@@ -1,16 +1,24 @@
 package org.example.chatbot.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.chatbot.service.ChatReadModel;
 import org.example.chatbot.service.DormMealFormatterScheduler;
+import org.example.chatbot.service.LocalIntentClassifier;
+import org.example.chatbot.service.SynonymService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin")
 public class AdminController {
 
     private final DormMealFormatterScheduler dormMealFormatterScheduler;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final ChatReadModel chatReadModel;
+    private final SynonymService synonymService;
 
     /**
      * 수동 포맷팅 트리거 API
@@ -21,4 +29,48 @@ public class AdminController {
         dormMealFormatterScheduler.formatDormMeals();
         return ResponseEntity.ok("✅ DormMeal 포맷팅 수동 실행 완료");
     }
+
+    /**
+     * 로컬 intent 모델 학습 API (학습 로그 → 모델 파일 저장 후 즉시 교체)
+     * POST /api/admin/train-intent-model
+     */
+    @PostMapping("/train-intent-model")
+    public ResponseEntity<?> trainIntentModel() {
+        try {
+            return ResponseEntity.ok(localIntentClassifier.train());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body("❗ " + e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body("❗ 모델 학습 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 읽기 모델 즉시 갱신 API (DB를 직접 수정한 뒤 다음 갱신 주기를 기다리지 않을 때)
+     * POST /api/admin/refresh-read-model
+     */
+    @PostMapping("/refresh-read-model")
+    public ResponseEntity<String> refreshReadModel() {
+        try {
+            chatReadModel.refresh();
+            return ResponseEntity.ok("✅ 읽기 모델 갱신 완료");
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("❗ 읽기 모델 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 동의어 사전 즉시 다시 읽기 API (파일 수정 후 reload-interval을 기다리지 않을 때)
+     * POST /api/admin/reload-synonyms
+     */
+    @PostMapping("/reload-synonyms")
+    public ResponseEntity<String> reloadSynonyms() {
+        try {
+            return ResponseEntity.ok("✅ 동의어 사전 로드 완료 (groups=" + synonymService.reload() + ")");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("❗ " + e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body("❗ 동의어 사전 로드 실패: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
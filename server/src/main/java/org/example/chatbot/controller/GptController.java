@@ -1,18 +1,31 @@
 package org.example.chatbot.controller;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.chatbot.dto.*;
 import org.example.chatbot.service.*;
 import org.example.chatbot.util.DateTimeExtractor;
+import org.example.chatbot.util.Deadline;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.example.chatbot.util.DateTimeExtractor.*;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/chat")
@@ -22,11 +35,19 @@ public class GptController {
     private final NoticeService noticeService;
     private final TableQueryService tableQueryService;
     private final ChatSessionService chatSessionService;
+    private final ThreadPoolTaskExecutor chatExecutor;
+    private final ChatAdmissionControl admissionControl;
+    private final ChatDataPrefetcher chatDataPrefetcher;
+    private final SynonymService synonymService;
 
     private static final Set<String> MEAL_INTENTS = Set.of("학생식당", "교직원식당", "기숙사식당");
     private static final Set<String> NOTICE_INTENTS = Set.of("학사공지", "장학공지", "한경공지");
     private static final String SCHEDULE_INTENT = "학사일정";
     private static final String NOTICE_ALL_INTENT = "전체공지";
+    private static final long SSE_TIMEOUT_MILLIS = 60_000L;
+    private static final long OVERLOADED_RETRY_AFTER_SECONDS = 5;
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많아요. 잠시 후 다시 시도해 주세요.";
+    private static final String GPT_UNAVAILABLE_MESSAGE = "지금은 답변을 생성하기 어려워요. 잠시 후 다시 시도해 주세요.";
 
     @GetMapping("/intent")
     public ResponseEntity<GptResponseDto> getSession(@RequestParam("userId") String userId) {
@@ -47,12 +68,151 @@ public class GptController {
         );
     }
 
+    /**
+     * 질문 처리는 chatExecutor에서 수행하고, Tomcat 요청 스레드는 즉시 반환합니다.
+     * 사용자별 한도를 넘으면 429, 서버가 포화 상태면 GPT 없이 로컬 규칙으로 답할 수 있는 질문(식단/공지)만 응답하고 나머지는 503을 반환합니다.
+     */
     @PostMapping("/intent")
-    public ResponseEntity<GptResponseDto> handleUserInput(@RequestBody GptRequestDto request) {
+    public CompletableFuture<ResponseEntity<GptResponseDto>> handleUserInput(@RequestBody GptRequestDto request) {
+        ChatAdmissionControl.Admission admission = admissionControl.admit(request.getUserId());
+        switch (admission.decision()) {
+            case REJECTED -> {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(admission.retryAfter()))
+                        .body(new GptResponseDto(null, TOO_MANY_REQUESTS_MESSAGE)));
+            }
+            case DEGRADED -> {
+                return CompletableFuture.completedFuture(degradedResponse(request));
+            }
+            default -> {
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> respond(request), chatExecutor)
+                    .whenComplete((response, error) -> admissionControl.release());
+        } catch (RejectedExecutionException e) {
+            admissionControl.release();
+            return CompletableFuture.completedFuture(degradedResponse(request));
+        }
+    }
+
+    /**
+     * 스트리밍 버전. DB로 답할 수 있는 질문은 "answer" 이벤트 하나로 끝나고,
+     * GPT 일반 답변은 생성되는 대로 "delta" 이벤트로 보낸 뒤 마지막에 전체 답변을 "answer" 이벤트로 보냅니다.
+     */
+    @PostMapping(value = "/intent/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUserInput(@RequestBody GptRequestDto request) {
+        ChatAdmissionControl.Admission admission = admissionControl.admit(request.getUserId());
+        if (admission.decision() == ChatAdmissionControl.Decision.REJECTED) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(admission.retryAfter()))
+                    .build();
+        }
+        if (admission.decision() == ChatAdmissionControl.Decision.DEGRADED) {
+            return degradedStream(request);
+        }
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        try {
+            chatExecutor.execute(() -> {
+                try {
+                    streamResponse(request, emitter);
+                } finally {
+                    admissionControl.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admissionControl.release();
+            return degradedStream(request);
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 과부하 모드 응답. GPT 없이 로컬 규칙으로 intent를 정해 DB로 답할 수 있으면 응답하고, 아니면 503을 반환합니다.
+     */
+    private ResponseEntity<GptResponseDto> degradedResponse(GptRequestDto request) {
+        GptResponseDto answer = answerFromData(request, gptService.classifyIntentLocally(request.getMessage()),
+                chatDataPrefetcher.none());
+        if (answer != null) {
+            return ResponseEntity.ok(answer);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(OVERLOADED_RETRY_AFTER_SECONDS))
+                .body(new GptResponseDto(null, GPT_UNAVAILABLE_MESSAGE));
+    }
+
+    private ResponseEntity<SseEmitter> degradedStream(GptRequestDto request) {
+        ResponseEntity<GptResponseDto> response = degradedResponse(request);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()).build();
+        }
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        try {
+            emitter.send(SseEmitter.event().name("answer").data(response.getBody()));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    private static String retryAfterSeconds(Duration retryAfter) {
+        return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+
+    /**
+     * GPT 분류를 기다리는 동안 추측한 intent의 데이터를 미리 조회해 DB 지연과 GPT 지연을 겹칩니다.
+     */
+    private ResponseEntity<GptResponseDto> respond(GptRequestDto request) {
+        Deadline deadline = gptService.newChatDeadline();
+        try (ChatDataPrefetcher.Prefetch data = chatDataPrefetcher.start(request.getMessage())) {
+            IntentResultDto result = gptService.classifyIntent(request.getMessage(), deadline);
+
+            GptResponseDto answer = answerFromData(request, result, data);
+            return ResponseEntity.ok(answer != null ? answer : fallbackResponse(request.getMessage(), deadline));
+        }
+    }
+
+    private void streamResponse(GptRequestDto request, SseEmitter emitter) {
+        try (ChatDataPrefetcher.Prefetch data = chatDataPrefetcher.start(request.getMessage())) {
+            Deadline deadline = gptService.newChatDeadline();
+            IntentResultDto result = gptService.classifyIntent(request.getMessage(), deadline);
+
+            GptResponseDto answer = answerFromData(request, result, data);
+            if (answer == null) {
+                AtomicBoolean clientGone = new AtomicBoolean(false);
+                GptResult streamed = gptService.streamFallbackAnswer(request.getMessage(), deadline, delta -> {
+                    if (clientGone.get()) return;
+                    try {
+                        emitter.send(SseEmitter.event().name("delta").data(delta));
+                    } catch (IOException | IllegalStateException e) {
+                        // IllegalStateException: emitter가 이미 완료됨 (SSE 타임아웃 등)
+                        clientGone.set(true);
+                        log.info("📴 SSE 클라이언트 연결 종료: {}", e.getMessage());
+                    }
+                });
+                answer = new GptResponseDto("없음", streamed.isSuccess() ? streamed.content() : GPT_UNAVAILABLE_MESSAGE);
+            }
+
+            emitter.send(SseEmitter.event().name("answer").data(answer));
+            emitter.complete();
+        } catch (Exception e) {
+            log.warn("❗ SSE 응답 실패: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * DB(식단/공지/학사일정) 조회로 답할 수 있으면 응답을 만들고, GPT 일반 답변이 필요하면 null을 반환합니다.
+     * 조회는 data를 거치므로 선조회된 결과가 있으면 재사용합니다.
+     */
+    private GptResponseDto answerFromData(GptRequestDto request, IntentResultDto result, ChatDataPrefetcher.Prefetch data) {
         String userInput = request.getMessage();
         String lowerInput = userInput.toLowerCase();
 
-        IntentResultDto result = gptService.classifyIntent(userInput);
         String intent = Optional.ofNullable(result.getIntent()).orElse("").trim();
         String keyword = result.getKeyword();
         String answer = result.getAnswer();
@@ -61,9 +221,7 @@ public class GptController {
             if (lowerInput.contains("공지") || lowerInput.contains("공지사항")) {
                 intent = NOTICE_ALL_INTENT;
             } else {
-                return ResponseEntity.ok(
-                        new GptResponseDto("없음", gptService.generateFallbackAnswer(userInput))
-                );
+                return null;
             }
         }
 
@@ -79,34 +237,34 @@ public class GptController {
                 !(startDate.equals(endDate) && startDate.equals(LocalDate.now())) ||
                         containsDateKeyword(userInput);
 
-        String mealTime = adjustMealTime(intent, userInput, extractMealTime(userInput));
+        String mealTime = adjustMealTime(intent, synonymService.mealTime(userInput));
 
         if ("식당 미지정".equalsIgnoreCase(intent)) {
-            return ResponseEntity.ok(new GptResponseDto(
+            return new GptResponseDto(
                     "식당 미지정",
                     "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요."
-            ));
+            );
         }
 
         if (NOTICE_ALL_INTENT.equals(intent)) {
             StringBuilder answerBuilder = new StringBuilder();
 
             // 학사공지
-            List<?> academicList = tableQueryService.findNoticeDataByIntent("학사공지", keyword);
+            List<?> academicList = data.noticeData("학사공지", keyword, startDate, endDate);
             String academicAnswer = tableQueryService.filterNoticeByConditions(keyword, startDate, endDate, dateFilterApplied, academicList);
             if (!academicAnswer.contains("찾을 수 없습니다")) {
                 answerBuilder.append("📚 [학사공지]\n").append(academicAnswer).append("\n\n");
             }
 
             // 장학공지
-            List<?> scholarshipList = tableQueryService.findNoticeDataByIntent("장학공지", keyword);
+            List<?> scholarshipList = data.noticeData("장학공지", keyword, startDate, endDate);
             String scholarshipAnswer = tableQueryService.filterNoticeByConditions(keyword, startDate, endDate, dateFilterApplied, scholarshipList);
             if (!scholarshipAnswer.contains("찾을 수 없습니다")) {
                 answerBuilder.append("🎓 [장학공지]\n").append(scholarshipAnswer).append("\n\n");
             }
 
             // 한경공지
-            List<?> hankyongList = tableQueryService.findNoticeDataByIntent("한경공지", keyword);
+            List<?> hankyongList = data.noticeData("한경공지", keyword, startDate, endDate);
             String hankyongAnswer = tableQueryService.filterNoticeByConditions(keyword, startDate, endDate, dateFilterApplied, hankyongList);
             if (!hankyongAnswer.contains("찾을 수 없습니다")) {
                 answerBuilder.append("🏫 [한경공지]\n").append(hankyongAnswer).append("\n\n");
@@ -118,34 +276,33 @@ public class GptController {
             }
 
             chatSessionService.saveSession(request.getUserId(), intent, startDate.toString(), keyword, null);
-            return ResponseEntity.ok(new GptResponseDto(intent, finalAnswer));
+            return new GptResponseDto(intent, finalAnswer);
         }
 
         if (MEAL_INTENTS.contains(intent)) {
             if (!dateFilterApplied) {
-                return ResponseEntity.ok(new GptResponseDto(
+                return new GptResponseDto(
                         intent, "어느 날짜의 메뉴가 궁금하신가요? 예: 오늘, 내일, 7월 8일 등으로 입력해 주세요."
-                ));
+                );
             }
-            List<?> dataList = tableQueryService.findMealDataByIntent(intent, keyword);
+            List<?> dataList = data.mealData(intent, keyword, startDate, endDate);
             String mealAnswer = tableQueryService.filterMealByConditions(intent, keyword, mealTime, startDate, endDate, dateFilterApplied, dataList);
             chatSessionService.saveSession(request.getUserId(), intent, startDate.toString(), keyword, mealTime);
-            return ResponseEntity.ok(new GptResponseDto(intent, mealAnswer));
+            return new GptResponseDto(intent, mealAnswer);
         }
 
         if (NOTICE_INTENTS.contains(intent)) {
             if ((keyword == null || keyword.isBlank()) && !dateFilterApplied) {
-                return ResponseEntity.ok(new GptResponseDto(intent, buildReaskMessage(intent)));
+                return new GptResponseDto(intent, buildReaskMessage(intent));
             }
-            List<?> dataList = tableQueryService.findNoticeDataByIntent(intent, keyword);
+            List<?> dataList = data.noticeData(intent, keyword, startDate, endDate);
             String noticeAnswer = tableQueryService.filterNoticeByConditions(keyword, startDate, endDate, dateFilterApplied, dataList);
             chatSessionService.saveSession(request.getUserId(), intent, startDate.toString(), keyword, mealTime);
-            return ResponseEntity.ok(new GptResponseDto(intent, noticeAnswer));
+            return new GptResponseDto(intent, noticeAnswer);
         }
 
         if (SCHEDULE_INTENT.equals(intent)) {
-            keyword = normalizeKeyword(keyword);
-            List<?> dataList = tableQueryService.findNoticeDataByIntent(intent, null);
+            List<?> dataList = data.noticeData(intent, null, startDate, endDate);
             String scheduleAnswer = tableQueryService.filterAcademicScheduleByConditions(keyword, startDate, endDate, dateFilterApplied, dataList);
 
             if (scheduleAnswer.isBlank() && keyword != null && !keyword.isBlank()) {
@@ -160,20 +317,25 @@ public class GptController {
             }
 
             chatSessionService.saveSession(request.getUserId(), intent, startDate.toString(), keyword, mealTime);
-            return ResponseEntity.ok(new GptResponseDto(intent, scheduleAnswer));
+            return new GptResponseDto(intent, scheduleAnswer);
         }
 
-        return ResponseEntity.ok(new GptResponseDto("없음", gptService.generateFallbackAnswer(userInput)));
+        return null;
     }
 
-    private String adjustMealTime(String intent, String input, String mealTime) {
-        if ("학생식당".equals(intent)) {
-            if ("점심".equals(mealTime)) return null;
-            if (mealTime == null || mealTime.isBlank()) {
-                if (input.contains("건강한끼")) return "건강한끼";
-                if (input.contains("맛난한끼")) return "맛난한끼";
-            }
-        }
+    /**
+     * 일반 답변 모드. GPT가 시간 초과/장애 상태면 실패 문구 대신 재시도 안내를 반환합니다.
+     */
+    private GptResponseDto fallbackResponse(String userInput, Deadline deadline) {
+        GptResult answer = gptService.generateFallbackAnswer(userInput, deadline);
+        return new GptResponseDto("없음", answer.isSuccess() ? answer.content() : GPT_UNAVAILABLE_MESSAGE);
+    }
+
+    /**
+     * 학생식당 점심은 건강한끼/맛난한끼로 나뉘어 있어 "점심"만으로는 거르지 않습니다.
+     */
+    private String adjustMealTime(String intent, String mealTime) {
+        if ("학생식당".equals(intent) && "점심".equals(mealTime)) return null;
         return mealTime;
     }
 
@@ -194,11 +356,4 @@ public class GptController {
             default -> "찾고자 하는 정보의 날짜나 키워드를 입력해 주세요.";
         };
     }
-
-    private String normalizeKeyword(String keyword) {
-        if (keyword == null) return null;
-        if (keyword.contains("졸업")) return "학위수여";
-        if (keyword.contains("학위수여")) return "졸업";
-        return keyword;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package org.example.chatbot.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.dto.SuggestionDto;
+import org.example.chatbot.service.SuggestService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService service;
+
+    /**
+     * 검색어 자동완성 API
+     * GET /api/suggest?q=수강&limit=10
+     */
+    @GetMapping
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(service.suggest(q, limit));
+    }
+}
\ No newline at end of file
@@ -3,23 +3,24 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "academic_notices")
+@Table(name = "academic_notices", indexes = @Index(name = "idx_academic_notices_date", columnList = "notice_date"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class AcademicNotice implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String title;
-    private String noticeDate;
+    private LocalDate noticeDate;
     private String author;
 
     @Column(columnDefinition = "TEXT")
@@ -3,23 +3,24 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "academic_schedule")
+@Table(name = "academic_schedule", indexes = @Index(name = "idx_academic_schedule_date", columnList = "date"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class AcademicSchedule implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "date")
-    private String date;
+    private LocalDate date;
 
     @Column(columnDefinition = "MEDIUMTEXT")
     private String content;
@@ -3,22 +3,23 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "faculty_meals")
+@Table(name = "faculty_meals", indexes = @Index(name = "idx_faculty_meals_date_time", columnList = "meal_date, meal_time"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class FacultyMeal implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String mealDate;
+    private LocalDate mealDate;
 
     private String mealTime;
 
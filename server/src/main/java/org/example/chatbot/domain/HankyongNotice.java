@@ -3,16 +3,17 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "hankyong_notices")
+@Table(name = "hankyong_notices", indexes = @Index(name = "idx_hankyong_notices_date", columnList = "notice_date"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class HankyongNotice implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,7 +21,7 @@ public class HankyongNotice implements Serializable {
 
     private String title;
 
-    private String noticeDate;
+    private LocalDate noticeDate;
 
     private String author;
 
@@ -0,0 +1,37 @@
+package org.example.chatbot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * OpenAI chat-completions 스트리밍(stream=true) 응답의 SSE 청크 한 개
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionChunkDto {
+
+    private List<Choice> choices;
+
+    /**
+     * stream_options.include_usage=true일 때 마지막 청크에만 채워집니다.
+     */
+    private ChatCompletionResponseDto.Usage usage;
+
+    /**
+     * 이번 청크에 새로 생성된 텍스트. 없으면 빈 문자열
+     */
+    public String deltaContent() {
+        if (choices == null || choices.isEmpty()) return "";
+        ChatMessageDto delta = choices.get(0).getDelta();
+        return delta == null || delta.getContent() == null ? "" : delta.getContent();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private int index;
+        private ChatMessageDto delta;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.chatbot.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI chat-completions 요청 본문
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatCompletionRequestDto {
+
+    private String model;
+    private Double temperature;
+
+    @JsonProperty("max_tokens")
+    private Integer maxTokens;
+
+    private List<ChatMessageDto> messages;
+
+    @JsonProperty("response_format")
+    private Map<String, String> responseFormat;
+
+    private Boolean stream;
+
+    @JsonProperty("stream_options")
+    private Map<String, Object> streamOptions;
+
+    public ChatCompletionRequestDto(String model, Double temperature, Integer maxTokens, List<ChatMessageDto> messages) {
+        this(model, temperature, maxTokens, messages, null, null, null);
+    }
+
+    /**
+     * 응답을 JSON 객체로 강제합니다. (프롬프트에 "JSON" 문구가 포함되어 있어야 함)
+     */
+    public ChatCompletionRequestDto withJsonResponse() {
+        this.responseFormat = Map.of("type", "json_object");
+        return this;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.chatbot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * OpenAI chat-completions 응답 본문 (사용하는 필드만 매핑)
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionResponseDto {
+
+    private String id;
+    private String model;
+    private List<Choice> choices;
+    private Usage usage;
+
+    /**
+     * 스트리밍으로 받은 조각들을 일반 응답과 같은 형태로 합칩니다.
+     */
+    public static ChatCompletionResponseDto assembled(String content, Usage usage) {
+        Choice choice = new Choice();
+        choice.setMessage(new ChatMessageDto("assistant", content));
+
+        ChatCompletionResponseDto response = new ChatCompletionResponseDto();
+        response.setChoices(List.of(choice));
+        response.setUsage(usage);
+        return response;
+    }
+
+    /**
+     * 첫 번째 choice의 메시지 본문을 반환합니다. 비어 있으면 null
+     */
+    public String firstContent() {
+        if (choices == null || choices.isEmpty()) return null;
+        ChatMessageDto message = choices.get(0).getMessage();
+        if (message == null || message.getContent() == null) return null;
+        return message.getContent().trim();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private int index;
+        private ChatMessageDto message;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private int promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private int completionTokens;
+
+        @JsonProperty("total_tokens")
+        private int totalTokens;
+
+        @JsonProperty("prompt_tokens_details")
+        private PromptTokensDetails promptTokensDetails;
+
+        /**
+         * 프롬프트 캐시(prefix caching)로 처리된 입력 토큰 수
+         */
+        public int cachedTokens() {
+            return promptTokensDetails == null ? 0 : promptTokensDetails.getCachedTokens();
+        }
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PromptTokensDetails {
+        @JsonProperty("cached_tokens")
+        private int cachedTokens;
+    }
+}
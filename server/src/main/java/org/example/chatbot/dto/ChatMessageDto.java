@@ -0,0 +1,25 @@
+package org.example.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenAI chat-completions 메시지 (role: system / user / assistant)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageDto {
+
+    private String role;
+    private String content;
+
+    public static ChatMessageDto system(String content) {
+        return new ChatMessageDto("system", content);
+    }
+
+    public static ChatMessageDto user(String content) {
+        return new ChatMessageDto("user", content);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.chatbot.dto;
+
+/**
+ * GPT 호출 결과. 실패를 "메뉴 포맷팅에 실패했습니다." 같은 문자열 대신 상태 값으로 전달합니다.
+ */
+public record GptResult(Status status, String content) {
+
+    public enum Status {
+        SUCCESS,
+        TIMEOUT,        // 요청 시간 예산 초과
+        CIRCUIT_OPEN,   // 서킷 브레이커가 열려 호출하지 않음
+        RATE_LIMITED,   // OpenAI 429 또는 로컬 호출 한도 초과
+        OVERLOADED,     // 서버 과부하로 GPT를 호출하지 않고 로컬 규칙만 사용
+        ERROR
+    }
+
+    public static GptResult success(String content) {
+        return new GptResult(Status.SUCCESS, content);
+    }
+
+    public static GptResult failure(Status status) {
+        return new GptResult(status, null);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.chatbot.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,4 +13,19 @@ public class IntentResultDto {
     private String intent;
     private String keyword;
     private String answer;
-}
\ No newline at end of file
+    private String source; // 분류 경로 (one-shot, two-stage 등) - 로그/메트릭용
+    private GptResult.Status gptStatus; // GPT 호출이 실패해 로컬 규칙으로 보정한 경우 실패 사유
+
+    public IntentResultDto(String intent, String keyword, String answer) {
+        this(intent, keyword, answer, null, null);
+    }
+
+    public IntentResultDto(String intent, String keyword, String answer, String source) {
+        this(intent, keyword, answer, source, null);
+    }
+
+    @JsonIgnore
+    public boolean isDegraded() {
+        return gptStatus != null && gptStatus != GptResult.Status.SUCCESS;
+    }
+}
@@ -5,6 +5,8 @@ import org.example.chatbot.domain.AcademicNotice;
 import org.example.chatbot.domain.HankyongNotice;
 import org.example.chatbot.domain.ScholarshipNotice;
 
+import java.util.Objects;
+
 /**
  * 공지사항 DTO
  * - type : 공지 유형 (학사 / 장학 / 한경)
@@ -31,7 +33,7 @@ public class NoticeDto {
         return new NoticeDto(
                 "학사공지",
                 notice.getTitle(),
-                notice.getNoticeDate(),
+                Objects.toString(notice.getNoticeDate(), null),
                 notice.getLink()
         );
     }
@@ -40,7 +42,7 @@ public class NoticeDto {
         return new NoticeDto(
                 "장학공지",
                 notice.getTitle(),
-                notice.getNoticeDate(),
+                Objects.toString(notice.getNoticeDate(), null),
                 notice.getLink()
         );
     }
@@ -49,7 +51,7 @@ public class NoticeDto {
         return new NoticeDto(
                 "한경공지",
                 notice.getTitle(),
-                notice.getNoticeDate(),
+                Objects.toString(notice.getNoticeDate(), null),
                 notice.getLink()
         );
     }
@@ -0,0 +1,9 @@
+package org.example.chatbot.dto;
+
+/**
+ * 자동완성 제안
+ * - text : 제안 문구 (공지 제목 / 학사일정 / 메뉴 항목)
+ * - type : 데이터 종류 (학사공지 / 장학공지 / 한경공지 / 학사일정 / 학생식당 / 교직원식당 / 기숙사식당), 채팅 intent와 같은 값
+ */
+public record SuggestionDto(String text, String type) {
+}
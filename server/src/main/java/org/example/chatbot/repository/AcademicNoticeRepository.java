@@ -1,44 +1,45 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.AcademicNotice;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface AcademicNoticeRepository extends JpaRepository<AcademicNotice, Long> {
+public interface AcademicNoticeRepository extends VersionedRepository<AcademicNotice> {
 
     /**
-     * 제목과 날짜를 기준으로 공지사항을 검색합니다.
+     * 제목을 기준으로 공지사항을 검색합니다.
      *
-     * @param noticeDate 공지 날짜 (부분 일치)
      * @param title 공지 제목 (부분 일치)
      * @return 검색된 공지 목록
      */
-    List<AcademicNotice> findByNoticeDateContainingAndTitleContaining(String noticeDate, String title);
+    List<AcademicNotice> findByTitleContaining(String title);
 
     /**
-     * 날짜를 기준으로 공지사항을 검색합니다.
+     * 전체 공지사항 목록을 조회합니다.
      *
-     * @param noticeDate 공지 날짜 (부분 일치)
-     * @return 검색된 공지 목록
+     * @return 전체 공지 목록
      */
-    List<AcademicNotice> findByNoticeDateContaining(String noticeDate);
+    List<AcademicNotice> findAll();
 
     /**
-     * 제목을 기준으로 공지사항을 검색합니다.
+     * 날짜 범위로 공지사항을 검색합니다. (DATE 컬럼 인덱스 범위 조회)
      *
-     * @param title 공지 제목 (부분 일치)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
      * @return 검색된 공지 목록
      */
-    List<AcademicNotice> findByTitleContaining(String title);
+    List<AcademicNotice> findByNoticeDateBetween(LocalDate startDate, LocalDate endDate);
 
     /**
-     * 전체 공지사항 목록을 조회합니다.
+     * 날짜 범위와 제목 키워드(대소문자 무시)로 공지사항을 검색합니다.
      *
-     * @return 전체 공지 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param title     제목 키워드 (부분 일치)
+     * @return 검색된 공지 목록
      */
-    List<AcademicNotice> findAll();
-
+    List<AcademicNotice> findByNoticeDateBetweenAndTitleContainingIgnoreCase(LocalDate startDate, LocalDate endDate, String title);
 }
\ No newline at end of file
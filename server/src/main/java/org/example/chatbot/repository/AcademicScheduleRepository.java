@@ -1,17 +1,17 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.AcademicSchedule;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface AcademicScheduleRepository extends JpaRepository<AcademicSchedule, Long> {
+public interface AcademicScheduleRepository extends VersionedRepository<AcademicSchedule> {
 
-    List<AcademicSchedule> findByDateContainingAndContentContaining(String date, String keyword);
+    List<AcademicSchedule> findByDateBetweenAndContentContaining(LocalDate startDate, LocalDate endDate, String keyword);
 
-    List<AcademicSchedule> findByDateContaining(String date);
+    List<AcademicSchedule> findByDateBetween(LocalDate startDate, LocalDate endDate);
 
     List<AcademicSchedule> findByContentContaining(String keyword);
 
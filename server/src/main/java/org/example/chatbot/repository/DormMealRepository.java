@@ -1,31 +1,14 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.DormMeal;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface DormMealRepository extends JpaRepository<DormMeal, Long> {
-
-    /**
-     * 날짜와 메뉴를 기준으로 기숙사 식단을 검색합니다.
-     *
-     * @param mealDate 날짜 (부분 일치)
-     * @param keyword 메뉴 키워드 (부분 일치)
-     * @return 검색된 식단 목록
-     */
-    List<DormMeal> findByMealDateContainingAndMenuContaining(String mealDate, String keyword);
-
-    /**
-     * 날짜만으로 기숙사 식단을 검색합니다.
-     *
-     * @param mealDate 날짜 (부분 일치)
-     * @return 검색된 식단 목록
-     */
-    List<DormMeal> findByMealDateContaining(String mealDate);
+public interface DormMealRepository extends VersionedRepository<DormMeal> {
 
     /**
      * 메뉴 키워드로 기숙사 식단을 검색합니다.
@@ -50,4 +33,23 @@ public interface DormMealRepository extends JpaRepository<DormMeal, Long> {
      */
     @Query("SELECT d FROM DormMeal d WHERE d.formattedMenu IS NULL OR d.formattedMenu = ''")
     List<DormMeal> findDormMealsToFormat();
+
+    /**
+     * 날짜 범위로 기숙사 식단을 검색합니다. (DATE 컬럼 인덱스 범위 조회)
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 검색된 식단 목록
+     */
+    List<DormMeal> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 날짜 범위와 메뉴 키워드로 기숙사 식단을 검색합니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (부분 일치)
+     * @return 검색된 기숙사 식단 목록
+     */
+    List<DormMeal> findByMealDateBetweenAndMenuContaining(LocalDate startDate, LocalDate endDate, String keyword);
 }
\ No newline at end of file
@@ -1,43 +1,45 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.FacultyMeal;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface FacultyMealRepository extends JpaRepository<FacultyMeal, Long> {
+public interface FacultyMealRepository extends VersionedRepository<FacultyMeal> {
 
     /**
-     * 날짜와 메뉴를 기준으로 교직원 식단을 검색합니다.
+     * 메뉴 키워드로 교직원 식단을 검색합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
      * @param keyword 메뉴 키워드 (부분 일치)
      * @return 검색된 식단 목록
      */
-    List<FacultyMeal> findByMealDateContainingAndMenuContaining(String mealDate, String keyword);
+    List<FacultyMeal> findByMenuContaining(String keyword);
 
     /**
-     * 날짜만으로 교직원 식단을 검색합니다.
+     * 전체 교직원 식단 목록을 조회합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
-     * @return 검색된 식단 목록
+     * @return 전체 식단 목록
      */
-    List<FacultyMeal> findByMealDateContaining(String mealDate);
+    List<FacultyMeal> findAll();
 
     /**
-     * 메뉴 키워드로 교직원 식단을 검색합니다.
+     * 날짜 범위로 교직원 식단을 검색합니다. (DATE 컬럼 인덱스 범위 조회)
      *
-     * @param keyword 메뉴 키워드 (부분 일치)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
      * @return 검색된 식단 목록
      */
-    List<FacultyMeal> findByMenuContaining(String keyword);
+    List<FacultyMeal> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
 
     /**
-     * 전체 교직원 식단 목록을 조회합니다.
+     * 날짜 범위와 메뉴 키워드로 교직원 식단을 검색합니다.
      *
-     * @return 전체 식단 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (부분 일치)
+     * @return 검색된 식단 목록
      */
-    List<FacultyMeal> findAll();
+    List<FacultyMeal> findByMealDateBetweenAndMenuContaining(LocalDate startDate, LocalDate endDate, String keyword);
 }
\ No newline at end of file
@@ -1,43 +1,45 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.HankyongNotice;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface HankyongNoticeRepository extends JpaRepository<HankyongNotice, Long> {
+public interface HankyongNoticeRepository extends VersionedRepository<HankyongNotice> {
 
     /**
-     * 날짜와 제목을 기준으로 한경 공지사항을 검색합니다.
+     * 제목 키워드로 한경 공지사항을 검색합니다.
      *
-     * @param date   날짜 (부분 일치)
-     * @param title  제목 키워드 (부분 일치)
+     * @param title 제목 키워드 (부분 일치)
      * @return 검색된 공지사항 목록
      */
-    List<HankyongNotice> findByNoticeDateContainingAndTitleContaining(String date, String title);
+    List<HankyongNotice> findByTitleContaining(String title);
 
     /**
-     * 날짜만으로 한경 공지사항을 검색합니다.
+     * 전체 한경 공지사항 목록을 조회합니다.
      *
-     * @param date 날짜 (부분 일치)
-     * @return 검색된 공지사항 목록
+     * @return 전체 공지사항 목록
      */
-    List<HankyongNotice> findByNoticeDateContaining(String date);
+    List<HankyongNotice> findAll();
 
     /**
-     * 제목 키워드로 한경 공지사항을 검색합니다.
+     * 날짜 범위로 한경 공지사항을 검색합니다. (DATE 컬럼 인덱스 범위 조회)
      *
-     * @param title 제목 키워드 (부분 일치)
-     * @return 검색된 공지사항 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 검색된 공지 목록
      */
-    List<HankyongNotice> findByTitleContaining(String title);
+    List<HankyongNotice> findByNoticeDateBetween(LocalDate startDate, LocalDate endDate);
 
     /**
-     * 전체 한경 공지사항 목록을 조회합니다.
+     * 날짜 범위와 제목 키워드(대소문자 무시)로 한경 공지사항을 검색합니다.
      *
-     * @return 전체 공지사항 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param title     제목 키워드 (부분 일치)
+     * @return 검색된 공지 목록
      */
-    List<HankyongNotice> findAll();
+    List<HankyongNotice> findByNoticeDateBetweenAndTitleContainingIgnoreCase(LocalDate startDate, LocalDate endDate, String title);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package org.example.chatbot.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+/**
+ * 읽기 모델(ChatReadModel)이 테이블 변경 여부를 싸게 확인할 수 있도록 count()와 함께 최대 id를 제공합니다.
+ * 크롤러는 hash 중복 확인 후 INSERT만 하므로 (행 수, 최대 id)가 같으면 내용도 같다고 보고,
+ * 늘어난 행 수만큼 새 id가 생겼으면 그 행만(findByIdGreaterThan) 읽어 색인에 덧붙입니다.
+ */
+@NoRepositoryBean
+public interface VersionedRepository<T> extends JpaRepository<T, Long> {
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM #{#entityName} e")
+    long findMaxId();
+
+    List<T> findByIdGreaterThan(Long id);
+}
\ No newline at end of file
@@ -1,16 +1,27 @@
 package org.example.chatbot.service;
 
+import org.example.chatbot.util.DateTimeExtractor;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public abstract class AbstractSearchService<T> {
 
+    /**
+     * @param date yyyy, yyyy-MM, yyyy-MM-dd 형식의 날짜 (해당 연/월/일 범위로 검색, 형식이 맞지 않으면 빈 결과)
+     */
     public List<T> search(String date, String keyword) {
-        if (date != null && keyword != null) {
-            return findByDateAndKeyword(date, keyword);
+        LocalDate[] range = DateTimeExtractor.parseDatePrefix(date);
+        if (date != null && range == null) {
+            return List.of();
+        }
+
+        if (range != null && keyword != null) {
+            return findByDateAndKeyword(range[0], range[1], keyword);
         }
 
-        if (date != null) {
-            return findByDate(date);
+        if (range != null) {
+            return findByDate(range[0], range[1]);
         }
 
         if (keyword != null) {
@@ -20,9 +31,9 @@ public abstract class AbstractSearchService<T> {
         return findAll();
     }
 
-    protected abstract List<T> findByDateAndKeyword(String date, String keyword);
+    protected abstract List<T> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword);
 
-    protected abstract List<T> findByDate(String date);
+    protected abstract List<T> findByDate(LocalDate startDate, LocalDate endDate);
 
     protected abstract List<T> findByKeyword(String keyword);
 
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class AcademicNoticeService extends AbstractSearchService<AcademicNotice>
     }
 
     @Override
-    protected List<AcademicNotice> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByNoticeDateContainingAndTitleContaining(date, keyword);
+    protected List<AcademicNotice> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByNoticeDateBetweenAndTitleContainingIgnoreCase(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<AcademicNotice> findByDate(String date) {
-        return repository.findByNoticeDateContaining(date);
+    protected List<AcademicNotice> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByNoticeDateBetween(startDate, endDate);
     }
 
     @Override
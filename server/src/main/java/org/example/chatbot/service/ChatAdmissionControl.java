@@ -0,0 +1,114 @@
+package org.example.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /api/chat/intent 요청의 입장 제어입니다.
+ * <ul>
+ *   <li>사용자(userId)별 토큰 버킷 - 한도를 넘으면 REJECTED (429 + Retry-After)</li>
+ *   <li>전체 동시 처리 수 - max-in-flight 이상이면 DEGRADED (GPT 없이 로컬 규칙으로만 응답)</li>
+ * </ul>
+ * ADMITTED를 받은 요청은 처리가 끝나면 반드시 release()를 호출해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAdmissionControl {
+
+    public enum Decision { ADMITTED, DEGRADED, REJECTED }
+
+    /**
+     * @param retryAfter REJECTED일 때 다시 시도할 수 있을 때까지의 시간
+     */
+    public record Admission(Decision decision, Duration retryAfter) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.admission.max-in-flight:200}")
+    private int maxInFlight;
+
+    @Value("${chatbot.admission.per-user.requests-per-minute:20}")
+    private int userRequestsPerMinute;
+
+    @Value("${chatbot.admission.per-user.burst:5}")
+    private int userBurst;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private Cache<String, UserBucket> userBuckets;
+
+    @PostConstruct
+    void init() {
+        userBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(100_000)
+                .build();
+        meterRegistry.gauge("chatbot.admission.in-flight", inFlight);
+    }
+
+    public Admission admit(String userId) {
+        if (userId != null && !userId.isBlank()) {
+            long waitNanos = userBuckets.get(userId, id -> new UserBucket()).tryConsume();
+            if (waitNanos > 0) {
+                record(Decision.REJECTED);
+                log.warn("🚧 사용자 요청 한도 초과: userId={}", userId);
+                return new Admission(Decision.REJECTED, Duration.ofNanos(waitNanos));
+            }
+        }
+
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            record(Decision.DEGRADED);
+            log.warn("🚧 동시 처리 한도({}) 초과, 로컬 규칙 모드로 응답합니다.", maxInFlight);
+            return new Admission(Decision.DEGRADED, Duration.ZERO);
+        }
+
+        record(Decision.ADMITTED);
+        return new Admission(Decision.ADMITTED, Duration.ZERO);
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private void record(Decision decision) {
+        meterRegistry.counter("chatbot.admission", "decision", decision.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    /**
+     * 분당 userRequestsPerMinute개가 채워지고 최대 userBurst개까지 쌓이는 버킷
+     */
+    private class UserBucket {
+
+        private double tokens = userBurst;
+        private long lastRefill = System.nanoTime();
+
+        /**
+         * 토큰을 하나 쓰고 0을 반환합니다. 토큰이 없으면 다음 토큰까지 남은 시간(ns)을 반환합니다.
+         */
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            double perNano = (double) userRequestsPerMinute / TimeUnit.MINUTES.toNanos(1);
+            tokens = Math.min(userBurst, tokens + (now - lastRefill) * perNano);
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / perNano);
+        }
+    }
+}
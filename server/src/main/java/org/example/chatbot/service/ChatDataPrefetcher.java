@@ -0,0 +1,181 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.example.chatbot.util.DateTimeExtractor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * GPT intent 분류를 기다리는 동안 답변에 필요한 DB 데이터를 미리 조회합니다.
+ * 입력만 보고 intent/keyword를 추측(GptService.guessIntent)해 TableQueryService 조회를 prefetchExecutor에서 시작하고,
+ * 분류가 끝난 뒤 같은 조건(intent, keyword, 기간)으로 조회하면 미리 받아 둔 결과를 사용합니다.
+ * 추측이 틀리면 평소처럼 그 자리에서 조회하므로 결과는 선조회 여부와 관계없이 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatDataPrefetcher {
+
+    private enum Kind { MEAL, NOTICE }
+
+    /**
+     * 선조회 결과를 찾는 키입니다. TableQueryService 조회 조건과 같은 기준으로 만듭니다.
+     * 조회에 쓰이지 않는 값(학생/기숙사식당의 keyword, 키워드 공지와 학사일정의 기간)은 비워 두어,
+     * GPT가 메뉴명 keyword를 뽑아도 선조회 결과를 재사용합니다.
+     */
+    private record DataKey(Kind kind, String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+        DataKey {
+            if (keyword == null || keyword.isBlank() || KEYWORD_INDEPENDENT_INTENTS.contains(intent)) {
+                keyword = null;
+            }
+            if (SCHEDULE_INTENT.equals(intent) || (kind == Kind.NOTICE && keyword != null)) {
+                startDate = null;
+                endDate = null;
+            }
+        }
+    }
+
+    private static final Set<String> KEYWORD_INDEPENDENT_INTENTS = Set.of("학생식당", "기숙사식당", "학사일정");
+    private static final Set<String> MEAL_INTENTS = Set.of("학생식당", "교직원식당", "기숙사식당");
+    private static final Set<String> NOTICE_INTENTS = Set.of("학사공지", "장학공지", "한경공지");
+    private static final String SCHEDULE_INTENT = "학사일정";
+    private static final String NOTICE_ALL_INTENT = "전체공지";
+
+    private final GptService gptService;
+    private final TableQueryService tableQueryService;
+    private final ThreadPoolTaskExecutor prefetchExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.prefetch.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 입력에서 추측한 intent의 데이터 조회를 시작합니다. 응답을 만든 뒤에는 반드시 close()를 호출해야 합니다.
+     */
+    public Prefetch start(String userInput) {
+        Prefetch prefetch = new Prefetch();
+        if (!enabled || userInput == null || userInput.isBlank()) return prefetch;
+
+        IntentResultDto guess = gptService.guessIntent(userInput);
+        if (guess == null) return prefetch;
+
+        String intent = guess.getIntent();
+        String keyword = guess.getKeyword();
+        LocalDate[] range = DateTimeExtractor.extractDateRange(userInput);
+        boolean dateFilter = hasDateFilter(userInput, range);
+
+        if (MEAL_INTENTS.contains(intent) && dateFilter) {
+            prefetch.loadMeal(intent, keyword, range[0], range[1]);
+        } else if (NOTICE_INTENTS.contains(intent) && (keyword != null || dateFilter)) {
+            prefetch.loadNotice(intent, keyword, range[0], range[1]);
+        } else if (NOTICE_ALL_INTENT.equals(intent)) {
+            for (String noticeIntent : List.of("학사공지", "장학공지", "한경공지")) {
+                prefetch.loadNotice(noticeIntent, keyword, range[0], range[1]);
+            }
+        } else if (SCHEDULE_INTENT.equals(intent)) {
+            prefetch.loadNotice(SCHEDULE_INTENT, null, range[0], range[1]);
+        }
+        return prefetch;
+    }
+
+    /**
+     * 선조회 없이 항상 그 자리에서 조회합니다. (과부하 모드 등)
+     */
+    public Prefetch none() {
+        return new Prefetch();
+    }
+
+    /**
+     * 컨트롤러의 날짜 조건 판단(기본값 오늘이 아닌 기간 또는 날짜 표현 포함)과 같은 기준입니다.
+     * 날짜 조건이 없으면 식단/공지 질문은 조회 없이 되묻기 때문에 선조회하지 않습니다.
+     */
+    private static boolean hasDateFilter(String userInput, LocalDate[] range) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        boolean todayOnly = today.equals(range[0]) && today.equals(range[1]);
+        return !todayOnly || DateTimeExtractor.containsDateKeyword(userInput);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("chatbot.prefetch", "result", result).increment();
+    }
+
+    /**
+     * 요청 하나의 선조회 결과입니다. 한 요청 스레드와 선조회 스레드에서만 사용합니다.
+     */
+    public final class Prefetch implements AutoCloseable {
+
+        private final Map<DataKey, CompletableFuture<List<?>>> loads = new ConcurrentHashMap<>();
+        private final Set<DataKey> used = ConcurrentHashMap.newKeySet();
+
+        private Prefetch() {
+        }
+
+        public List<?> mealData(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+            return get(new DataKey(Kind.MEAL, intent, keyword, startDate, endDate),
+                    () -> tableQueryService.findMealDataByIntent(intent, keyword, startDate, endDate));
+        }
+
+        public List<?> noticeData(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+            return get(new DataKey(Kind.NOTICE, intent, keyword, startDate, endDate),
+                    () -> tableQueryService.findNoticeDataByIntent(intent, keyword, startDate, endDate));
+        }
+
+        private void loadMeal(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+            load(new DataKey(Kind.MEAL, intent, keyword, startDate, endDate),
+                    () -> tableQueryService.findMealDataByIntent(intent, keyword, startDate, endDate));
+        }
+
+        private void loadNotice(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+            load(new DataKey(Kind.NOTICE, intent, keyword, startDate, endDate),
+                    () -> tableQueryService.findNoticeDataByIntent(intent, keyword, startDate, endDate));
+        }
+
+        private void load(DataKey key, Supplier<List<?>> query) {
+            try {
+                loads.put(key, CompletableFuture.supplyAsync(query, prefetchExecutor));
+            } catch (RejectedExecutionException e) {
+                record("rejected");
+            }
+        }
+
+        private List<?> get(DataKey key, Supplier<List<?>> query) {
+            CompletableFuture<List<?>> load = loads.get(key);
+            if (load == null) {
+                if (!loads.isEmpty()) record("miss");
+                return query.get();
+            }
+            used.add(key);
+            try {
+                List<?> data = load.join();
+                record("hit");
+                return data;
+            } catch (Exception e) {
+                log.warn("❗ 데이터 선조회 실패, 다시 조회합니다: {}", e.getMessage());
+                record("error");
+                return query.get();
+            }
+        }
+
+        /**
+         * 사용되지 않은 선조회(추측이 틀린 경우)를 집계합니다. 이미 시작된 DB 조회는 끝까지 실행됩니다.
+         */
+        @Override
+        public void close() {
+            loads.keySet().stream()
+                    .filter(key -> !used.contains(key))
+                    .forEach(key -> record("wasted"));
+        }
+    }
+}
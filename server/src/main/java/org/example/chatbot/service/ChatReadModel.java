@@ -0,0 +1,235 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.domain.*;
+import org.example.chatbot.dto.SuggestionDto;
+import org.example.chatbot.repository.*;
+import org.example.chatbot.util.BigramIndex;
+import org.example.chatbot.util.BkTree;
+import org.example.chatbot.util.DateSortedIndex;
+import org.example.chatbot.util.PrefixTrie;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 식단/공지/학사일정 7개 테이블을 메모리에 올려 둔 읽기 모델입니다.
+ * 데이터는 크롤러가 하루 몇 번 바꾸는 정도라, 채팅 요청마다 MySQL에 가지 않고 날짜별로 정렬된 색인(DateSortedIndex)과
+ * 공지 제목/학사일정 본문의 문자 bigram 역색인(BigramIndex)에서 조회합니다.
+ * 식단 메뉴 용어는 오타 보정용 자모 BK-tree(MenuKeywordMatcher)로, 공지 제목·학사일정·메뉴 항목은 자동완성용 접두어 트라이(SuggestService)로 함께 색인합니다.
+ *
+ * - 주기적으로(chatbot.read-model.refresh-interval) 테이블별 (행 수, 최대 id)를 확인해 바뀐 테이블만 다시 읽습니다.
+ *   새 행만 추가된 경우에는 그 행만 읽어 기존 색인에 덧붙입니다.
+ * - 새 Snapshot을 다 만든 뒤 AtomicReference로 한 번에 교체하므로, 읽는 쪽은 잠금 없이 항상 완성된 스냅샷만 봅니다.
+ * - 아직 만들어지지 않았거나 마지막 확인이 max-staleness보다 오래되면 snapshot()이 비어 있어 호출 측은 DB로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadModel {
+
+    /**
+     * 읽기 시점의 전체 데이터입니다. 생성 후 바뀌지 않습니다.
+     * (엔티티 객체는 호출 측과 공유되므로 읽기 전용으로만 사용해야 합니다)
+     */
+    public record Snapshot(DateSortedIndex<StudentMeal> studentMeals,
+                           DateSortedIndex<FacultyMeal> facultyMeals,
+                           DateSortedIndex<DormMeal> dormMeals,
+                           DateSortedIndex<AcademicNotice> academicNotices,
+                           DateSortedIndex<ScholarshipNotice> scholarshipNotices,
+                           DateSortedIndex<HankyongNotice> hankyongNotices,
+                           DateSortedIndex<AcademicSchedule> academicSchedules,
+                           BigramIndex<AcademicNotice> academicNoticeTitles,
+                           BigramIndex<ScholarshipNotice> scholarshipNoticeTitles,
+                           BigramIndex<HankyongNotice> hankyongNoticeTitles,
+                           BigramIndex<AcademicSchedule> academicScheduleContents,
+                           BkTree menuTerms,
+                           PrefixTrie<SuggestionDto> suggestions,
+                           Instant builtAt) {
+    }
+
+    /**
+     * 테이블의 (행 수, 최대 id). versions에는 DB 값이 아니라 색인에 실제로 들어 있는 행 기준 값을 저장합니다.
+     */
+    private record TableVersion(long count, long maxId) {
+    }
+
+    private final StudentMealRepository studentMealRepository;
+    private final FacultyMealRepository facultyMealRepository;
+    private final DormMealRepository dormMealRepository;
+    private final AcademicNoticeRepository academicNoticeRepository;
+    private final ScholarshipNoticeRepository scholarshipNoticeRepository;
+    private final HankyongNoticeRepository hankyongNoticeRepository;
+    private final AcademicScheduleRepository academicScheduleRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.read-model.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.read-model.max-staleness:10m}")
+    private Duration maxStaleness;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 마지막으로 테이블 버전 확인에 성공한 시각 (스냅샷이 최신임을 보장하는 시각)
+     */
+    private volatile Instant checkedAt = Instant.EPOCH;
+
+    /**
+     * 현재 스냅샷에 들어 있는 행의 테이블 버전. 갱신 스레드에서만 사용합니다. (rebuild는 synchronized)
+     */
+    private final Map<String, TableVersion> versions = new HashMap<>();
+
+    /**
+     * 현재 스냅샷. 비활성화됐거나 아직 없거나 오래됐으면 비어 있으며, 이때 호출 측은 DB로 조회합니다.
+     */
+    public Optional<Snapshot> snapshot() {
+        Snapshot current = enabled ? snapshot.get() : null;
+        boolean fresh = current != null && checkedAt.plus(maxStaleness).isAfter(Instant.now());
+        meterRegistry.counter("chatbot.read-model.lookup", "result", fresh ? "memory" : "db").increment();
+        return fresh ? Optional.of(current) : Optional.empty();
+    }
+
+    /**
+     * 바뀐 테이블이 있으면 다시 읽습니다. 기동 직후 한 번, 이후 refresh-interval 간격으로 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${chatbot.read-model.refresh-interval:1m}")
+    public void refreshIfChanged() {
+        if (!enabled) return;
+        try {
+            rebuild(false);
+        } catch (Exception e) {
+            log.warn("❗ 읽기 모델 갱신 실패, 기존 스냅샷을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버전과 관계없이 모든 테이블을 다시 읽습니다. (행 수/id가 바뀌지 않는 수정, 예: 기숙사 식단 포맷팅 후)
+     */
+    public void refresh() {
+        if (!enabled) return;
+        rebuild(true);
+    }
+
+    private synchronized void rebuild(boolean force) {
+        Instant startedAt = Instant.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Snapshot current = snapshot.get();
+        Map<String, TableVersion> nextVersions = new HashMap<>();
+        List<String> changed = new ArrayList<>();
+
+        DateSortedIndex<AcademicNotice> academicNotices = load("academic_notices",
+                current == null ? null : current.academicNotices(), academicNoticeRepository,
+                AcademicNotice::getNoticeDate, AcademicNotice::getId, force, nextVersions, changed);
+        DateSortedIndex<ScholarshipNotice> scholarshipNotices = load("scholarship_notices",
+                current == null ? null : current.scholarshipNotices(), scholarshipNoticeRepository,
+                ScholarshipNotice::getNoticeDate, ScholarshipNotice::getId, force, nextVersions, changed);
+        DateSortedIndex<HankyongNotice> hankyongNotices = load("hankyong_notices",
+                current == null ? null : current.hankyongNotices(), hankyongNoticeRepository,
+                HankyongNotice::getNoticeDate, HankyongNotice::getId, force, nextVersions, changed);
+        DateSortedIndex<AcademicSchedule> academicSchedules = load("academic_schedule",
+                current == null ? null : current.academicSchedules(), academicScheduleRepository,
+                AcademicSchedule::getDate, AcademicSchedule::getId, force, nextVersions, changed);
+
+        DateSortedIndex<StudentMeal> studentMeals = load("student_meals",
+                current == null ? null : current.studentMeals(), studentMealRepository,
+                StudentMeal::getMealDate, StudentMeal::getId, force, nextVersions, changed);
+        DateSortedIndex<FacultyMeal> facultyMeals = load("faculty_meals",
+                current == null ? null : current.facultyMeals(), facultyMealRepository,
+                FacultyMeal::getMealDate, FacultyMeal::getId, force, nextVersions, changed);
+        DateSortedIndex<DormMeal> dormMeals = load("dorm_meals",
+                current == null ? null : current.dormMeals(), dormMealRepository,
+                DormMeal::getMealDate, DormMeal::getId, force, nextVersions, changed);
+        boolean mealsChanged = current == null || studentMeals != current.studentMeals()
+                || facultyMeals != current.facultyMeals() || dormMeals != current.dormMeals();
+        PrefixTrie<SuggestionDto> suggestions = current != null && changed.isEmpty()
+                ? current.suggestions()
+                : SuggestService.build(studentMeals, facultyMeals, dormMeals,
+                        academicNotices, scholarshipNotices, hankyongNotices, academicSchedules);
+
+        Snapshot next = new Snapshot(
+                studentMeals,
+                facultyMeals,
+                dormMeals,
+                academicNotices,
+                scholarshipNotices,
+                hankyongNotices,
+                academicSchedules,
+                BigramIndex.sync(current == null ? null : current.academicNoticeTitles(),
+                        academicNotices.all(), AcademicNotice::getTitle),
+                BigramIndex.sync(current == null ? null : current.scholarshipNoticeTitles(),
+                        scholarshipNotices.all(), ScholarshipNotice::getTitle),
+                BigramIndex.sync(current == null ? null : current.hankyongNoticeTitles(),
+                        hankyongNotices.all(), HankyongNotice::getTitle),
+                BigramIndex.sync(current == null ? null : current.academicScheduleContents(),
+                        academicSchedules.all(), AcademicSchedule::getContent),
+                mealsChanged ? menuTerms(studentMeals, facultyMeals, dormMeals) : current.menuTerms(),
+                suggestions,
+                startedAt);
+
+        if (!changed.isEmpty()) {
+            snapshot.set(next);
+            versions.clear();
+            versions.putAll(nextVersions);
+            sample.stop(meterRegistry.timer("chatbot.read-model.rebuild"));
+            log.info("🔄 읽기 모델 갱신: {} ({}ms)", changed, Duration.between(startedAt, Instant.now()).toMillis());
+        }
+        checkedAt = startedAt;
+    }
+
+    private static BkTree menuTerms(DateSortedIndex<StudentMeal> studentMeals, DateSortedIndex<FacultyMeal> facultyMeals,
+                                    DateSortedIndex<DormMeal> dormMeals) {
+        List<String> menus = new ArrayList<>();
+        studentMeals.all().forEach(meal -> menus.add(meal.getMenu()));
+        facultyMeals.all().forEach(meal -> menus.add(meal.getMenu()));
+        dormMeals.all().forEach(meal -> menus.add(meal.getFormattedMenu() != null ? meal.getFormattedMenu() : meal.getMenu()));
+        return BkTree.of(MenuKeywordMatcher.extractTerms(menus));
+    }
+
+    /**
+     * 테이블 버전이 그대로면 기존 색인을 재사용하고, 새 행만 추가됐으면 그 행만 덧붙이고, 그 외에는 전체를 다시 읽습니다.
+     */
+    private <T> DateSortedIndex<T> load(String table, DateSortedIndex<T> previous, VersionedRepository<T> repository,
+                                        Function<T, LocalDate> dateOf, Function<T, Long> idOf, boolean force,
+                                        Map<String, TableVersion> nextVersions, List<String> changed) {
+        TableVersion loaded = versions.get(table);
+        TableVersion latest = new TableVersion(repository.count(), repository.findMaxId());
+        if (!force && previous != null && latest.equals(loaded)) {
+            nextVersions.put(table, loaded);
+            return previous;
+        }
+        changed.add(table);
+
+        if (!force && previous != null && loaded != null && latest.count() > loaded.count()) {
+            List<T> appended = repository.findByIdGreaterThan(loaded.maxId());
+            // 삭제 없이 새 행만 추가된 경우. (확인 후 더 추가된 행이 있으면 개수가 달라 전체를 다시 읽습니다)
+            if (loaded.count() + appended.size() == latest.count()) {
+                nextVersions.put(table, versionOf(loaded, appended, idOf));
+                return previous.plus(appended);
+            }
+        }
+
+        List<T> rows = repository.findAll();
+        nextVersions.put(table, versionOf(new TableVersion(0, 0), rows, idOf));
+        return DateSortedIndex.of(rows, dateOf);
+    }
+
+    private static <T> TableVersion versionOf(TableVersion base, List<T> rows, Function<T, Long> idOf) {
+        long maxId = base.maxId();
+        for (T row : rows) {
+            maxId = Math.max(maxId, idOf.apply(row));
+        }
+        return new TableVersion(base.count() + rows.size(), maxId);
+    }
+}
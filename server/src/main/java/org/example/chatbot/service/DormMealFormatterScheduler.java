@@ -4,11 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.chatbot.domain.DormMeal;
 import org.example.chatbot.repository.DormMealRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
@@ -17,30 +21,111 @@ public class DormMealFormatterScheduler {
 
     private final DormMealRepository dormMealRepository;
     private final GptService gptService;
+    private final ChatReadModel chatReadModel;
+    private final ThreadPoolTaskExecutor formatterExecutor;
+
+    /**
+     * 한 번의 GPT 호출로 포맷팅할 식단 수
+     */
+    @Value("${chatbot.dorm-meal-format.batch-size:7}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
 
     /**
      * 매일 새벽 3시에 dorm_meals의 메뉴 원본을 GPT로 포맷팅해 formatted_menu에 저장합니다.
+     * 여러 날짜를 묶어 배치로 포맷팅하고, 배치들은 formatterExecutor에서 concurrency개씩 병렬로 처리합니다.
+     * 트랜잭션은 배치 단위 저장(saveAll)에만 열리므로 GPT 응답을 기다리는 동안 DB 트랜잭션을 잡고 있지 않습니다.
      */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void formatDormMeals() {
-        log.info("✅ DormMeal 포맷팅 스케줄러 실행 시작");
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ DormMeal 포맷팅이 이미 실행 중이라 건너뜁니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            log.info("✅ DormMeal 포맷팅 스케줄러 실행 시작");
+
+            // formatted_menu가 NULL이거나 menu와 내용이 불일치한 데이터만 가져오기
+            List<DormMeal> mealsToFormat = dormMealRepository.findDormMealsToFormat();
+            log.info("📌 포맷팅 대상 식단 수: {}", mealsToFormat.size());
+
+            AtomicInteger saved = new AtomicInteger();
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (List<DormMeal> chunk : partition(mealsToFormat, Math.max(1, batchSize))) {
+                tasks.add(CompletableFuture.runAsync(() -> saved.addAndGet(formatChunk(chunk)), formatterExecutor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+            log.info("✅ DormMeal 포맷팅 스케줄러 실행 종료: {}/{}건 저장, {}ms",
+                    saved.get(), mealsToFormat.size(), System.currentTimeMillis() - startedAt);
+
+            // formatted_menu 수정은 행 수/id가 바뀌지 않아 읽기 모델이 스스로 감지하지 못하므로 직접 갱신합니다.
+            if (saved.get() > 0) {
+                refreshReadModel();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
 
-        // formatted_menu가 NULL이거나 menu와 내용이 불일치한 데이터만 가져오기
-        List<DormMeal> mealsToFormat = dormMealRepository.findDormMealsToFormat();
-        log.info("📌 포맷팅 대상 식단 수: {}", mealsToFormat.size());
+    /**
+     * 배치 하나를 포맷팅해 저장하고 저장한 건수를 반환합니다.
+     * 배치 응답에서 빠진 식단(또는 배치 호출 자체가 실패한 경우)은 한 건씩 다시 포맷팅합니다.
+     */
+    private int formatChunk(List<DormMeal> chunk) {
+        Map<Long, String> rawMenus = new LinkedHashMap<>();
+        for (DormMeal meal : chunk) {
+            rawMenus.put(meal.getId(), meal.getMenu());
+        }
 
-        for (DormMeal meal : mealsToFormat) {
+        Map<Long, String> formatted;
+        try {
+            formatted = chunk.size() == 1 ? Map.of() : gptService.formatMealsWithGpt(rawMenus);
+        } catch (Exception e) {
+            log.error("❗ 배치 포맷팅 실패, 한 건씩 재시도합니다: {}", e.getMessage());
+            formatted = Map.of();
+        }
+
+        List<DormMeal> done = new ArrayList<>();
+        for (DormMeal meal : chunk) {
             try {
-                String formatted = gptService.formatMealWithGpt(meal.getMenu());
-                meal.setFormattedMenu(formatted);
-                dormMealRepository.save(meal); // JPA dirty checking으로 update
+                String menu = formatted.get(meal.getId());
+                if (menu == null) {
+                    menu = gptService.formatMealWithGpt(meal.getMenu());
+                }
+                meal.setFormattedMenu(menu);
+                done.add(meal);
                 log.info("✅ [{}] 포맷팅 완료", meal.getMealDate());
             } catch (Exception e) {
                 log.error("❗ [{}] 포맷팅 실패: {}", meal.getMealDate(), e.getMessage());
             }
         }
 
-        log.info("✅ DormMeal 포맷팅 스케줄러 실행 종료");
+        try {
+            dormMealRepository.saveAll(done);
+            return done.size();
+        } catch (Exception e) {
+            log.error("❗ 포맷팅 결과 저장 실패 ({}건): {}", done.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private void refreshReadModel() {
+        try {
+            chatReadModel.refresh();
+        } catch (Exception e) {
+            log.warn("❗ 포맷팅 후 읽기 모델 갱신 실패 (다음 주기에 다시 확인): {}", e.getMessage());
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return chunks;
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class DormMealService extends AbstractSearchService<DormMeal> {
     }
 
     @Override
-    protected List<DormMeal> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByMealDateContainingAndMenuContaining(date, keyword);
+    protected List<DormMeal> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByMealDateBetweenAndMenuContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<DormMeal> findByDate(String date) {
-        return repository.findByMealDateContaining(date);
+    protected List<DormMeal> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByMealDateBetween(startDate, endDate);
     }
 
     @Override
@@ -0,0 +1,128 @@
+package org.example.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.util.MinHashIndex;
+import org.example.chatbot.util.TextCanonicalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * GPT 일반 답변(fallback)을 캐싱합니다.
+ * 정규화된 입력이 같으면 그대로 재사용하고, 다르더라도 문자 bigram 자카드 유사도가
+ * similarity-threshold 이상인 질문(예: "학교 근처 맛집" / "학교근처 맛집 추천")은 같은 답변을 재사용합니다.
+ * 단, 양쪽 모두에 상대에게 없는 글자가 있으면("근처 맛집" / "근처 술집") 단어가 바뀐 것으로 보고 재사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FallbackAnswerCache {
+
+    private static final int NGRAM_SIZE = 2;
+    private static final int LSH_BANDS = 16;
+    private static final int LSH_ROWS = 2;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.fallback-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.fallback-cache.ttl:1h}")
+    private Duration ttl;
+
+    @Value("${chatbot.fallback-cache.max-size:2000}")
+    private long maxSize;
+
+    /**
+     * 근사 중복으로 인정할 최소 자카드 유사도 (1.0이면 정규화 후 완전히 같은 입력만 재사용)
+     */
+    @Value("${chatbot.fallback-cache.similarity-threshold:0.7}")
+    private double similarityThreshold;
+
+    /**
+     * 이보다 짧은 입력은 글자 몇 개 차이로 의미가 달라지기 쉬워 근사 중복 검색을 하지 않습니다.
+     */
+    @Value("${chatbot.fallback-cache.min-similar-length:5}")
+    private int minSimilarLength;
+
+    private final MinHashIndex<String> similarityIndex = new MinHashIndex<>(NGRAM_SIZE, LSH_BANDS, LSH_ROWS);
+    private Cache<String, String> answers;
+
+    @PostConstruct
+    void init() {
+        answers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .removalListener((String key, String answer, RemovalCause cause) -> {
+                    if (key != null && cause != RemovalCause.REPLACED) similarityIndex.remove(key);
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, answers, "fallbackAnswerCache");
+    }
+
+    public Optional<String> get(String userInput) {
+        if (!enabled) return Optional.empty();
+
+        String key = TextCanonicalizer.canonicalize(userInput);
+        if (key.isEmpty()) return Optional.empty();
+
+        String exact = answers.getIfPresent(key);
+        if (exact != null) {
+            record("exact");
+            return Optional.of(exact);
+        }
+
+        if (key.length() >= minSimilarLength && similarityThreshold < 1.0) {
+            Optional<String> similar = similarityIndex.findMostSimilar(key, similarityThreshold)
+                    .filter(similarKey -> !isSubstitution(key, similarKey))
+                    .flatMap(similarKey -> Optional.ofNullable(answers.getIfPresent(similarKey))
+                            .map(answer -> {
+                                log.info("♻️ 유사 질문 답변 재사용: '{}' ≈ '{}'", key, similarKey);
+                                return answer;
+                            }));
+            if (similar.isPresent()) {
+                record("similar");
+                return similar;
+            }
+        }
+
+        record("miss");
+        return Optional.empty();
+    }
+
+    public void put(String userInput, String answer) {
+        if (!enabled || answer == null || answer.isBlank()) return;
+
+        String key = TextCanonicalizer.canonicalize(userInput);
+        if (key.isEmpty()) return;
+
+        answers.put(key, answer);
+        similarityIndex.put(key, key);
+    }
+
+    /**
+     * 한쪽에 글자만 덧붙은 경우("맛집" → "맛집추천")가 아니라 서로 다른 글자로 바뀐 경우("맛집" → "술집")인지 확인합니다.
+     * bigram 유사도는 이 둘을 구분하지 못하고, 짧은 질문에서는 바뀐 글자 하나가 곧 질문의 핵심 단어입니다.
+     */
+    static boolean isSubstitution(String a, String b) {
+        Set<Integer> charsA = a.codePoints().boxed().collect(Collectors.toSet());
+        Set<Integer> charsB = b.codePoints().boxed().collect(Collectors.toSet());
+        return !charsA.containsAll(charsB) && !charsB.containsAll(charsA);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("chatbot.fallback.cache", "result", result).increment();
+    }
+}
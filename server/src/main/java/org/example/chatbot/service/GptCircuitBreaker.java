@@ -0,0 +1,137 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 호출용 서킷 브레이커입니다.
+ * 최근 window-size 건 중 실패율이 임계치를 넘으면 open-duration 동안 호출을 즉시 거절하고,
+ * 이후 한 건의 시험 호출(half-open)이 성공하면 다시 닫힙니다.
+ * 허용(tryAcquire)과 결과 기록(onSuccess/onFailure)은 호출자 수가 아니라 실제 OpenAI 요청 하나당 한 번씩입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptCircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException() {
+            super("GPT 서킷 브레이커 열림");
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${openai.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${openai.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${openai.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${openai.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    private boolean[] window;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    @PostConstruct
+    void init() {
+        window = new boolean[windowSize];
+        meterRegistry.gauge("chatbot.gpt.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0);
+    }
+
+    /**
+     * 호출 가능 여부를 확인합니다. false이면 호출하지 말고 즉시 실패 처리해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDuration.toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) return false;
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            log.info("✅ GPT 서킷 브레이커 닫힘 (시험 호출 성공)");
+            state = State.CLOSED;
+            resetWindow();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    /**
+     * tryAcquire 후 실제로 호출하지 않은 경우(로컬 호출 한도 초과 등) 결과를 기록하지 않고 시험 호출 권한만 반납합니다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (window[position]) failures--;
+        } else {
+            recorded++;
+        }
+        window[position] = failure;
+        if (failure) failures++;
+        position = (position + 1) % windowSize;
+    }
+
+    private void open() {
+        log.warn("⛔ GPT 서킷 브레이커 열림: 최근 {}건 중 {}건 실패, {} 동안 호출을 차단합니다.", recorded, failures, openDuration);
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        meterRegistry.counter("chatbot.gpt.circuit.opened").increment();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        window = new boolean[windowSize];
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
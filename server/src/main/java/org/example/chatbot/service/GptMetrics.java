@@ -0,0 +1,101 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.config.GptStageProperties;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.example.chatbot.dto.GptResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * GPT 호출 단계별 지연 시간/토큰/비용/오류 메트릭을 기록합니다.
+ * <ul>
+ *   <li>chatbot.gpt.latency (timer, histogram) - 호출자가 체감한 지연 시간. 태그: stage, outcome</li>
+ *   <li>chatbot.gpt.errors (counter) - 실패 사유별 호출 수. 태그: stage, status</li>
+ *   <li>chatbot.gpt.tokens (counter) - 실제 OpenAI 응답의 usage 합계. 태그: stage, type(prompt/cached/completion)
+ *       cached는 prompt 중 프롬프트 캐시로 처리된(할인된) 토큰 수</li>
+ *   <li>chatbot.prompt.truncated.tokens (counter) - 입력 토큰 예산을 넘어 잘라낸 추정 토큰 수. 태그: stage</li>
+ *   <li>chatbot.gpt.cost (counter, USD) - 단가가 설정된 경우에만 기록. 태그: stage
+ *       단계별로 다른 모델을 쓰는 경우 openai.stages.&lt;단계&gt;.*-price 단가가 공통 단가보다 우선합니다.</li>
+ * </ul>
+ * 토큰/비용은 OpenAI 요청 단위로 기록하므로 hedge 요청은 포함되고, single-flight로 합쳐진 호출은 한 번만 집계됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GptMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final GptStageProperties stageProperties;
+
+    /**
+     * 입력 토큰 100만 개당 가격 (USD, 0이면 비용 메트릭을 기록하지 않음)
+     */
+    @Value("${openai.pricing.prompt-per-1m:0}")
+    private double promptPricePerMillion;
+
+    /**
+     * 캐시된 입력 토큰 100만 개당 가격 (USD, 음수이면 prompt-per-1m과 같게 계산)
+     */
+    @Value("${openai.pricing.cached-prompt-per-1m:-1}")
+    private double cachedPromptPricePerMillion;
+
+    /**
+     * 출력 토큰 100만 개당 가격 (USD, 0이면 비용 메트릭을 기록하지 않음)
+     */
+    @Value("${openai.pricing.completion-per-1m:0}")
+    private double completionPricePerMillion;
+
+    public void recordCall(GptStage stage, GptResult.Status status, Duration elapsed) {
+        String outcome = status.name().toLowerCase(Locale.ROOT);
+        Timer.builder("chatbot.gpt.latency")
+                .tag("stage", stage.tag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed);
+
+        if (status != GptResult.Status.SUCCESS) {
+            meterRegistry.counter("chatbot.gpt.errors", "stage", stage.tag(), "status", outcome).increment();
+        }
+    }
+
+    public void recordUsage(GptStage stage, ChatCompletionResponseDto response) {
+        if (response == null || response.getUsage() == null) return;
+
+        ChatCompletionResponseDto.Usage usage = response.getUsage();
+        int cached = usage.cachedTokens();
+        tokens(stage, "prompt").increment(usage.getPromptTokens());
+        tokens(stage, "cached").increment(cached);
+        tokens(stage, "completion").increment(usage.getCompletionTokens());
+
+        GptStageProperties.Stage settings = stageProperties.get(stage);
+        double promptPrice = orDefault(settings.getPromptPrice(), promptPricePerMillion);
+        double cachedPrice = orDefault(settings.getCachedPromptPrice(),
+                settings.getPromptPrice() != null || cachedPromptPricePerMillion < 0 ? promptPrice : cachedPromptPricePerMillion);
+        double completionPrice = orDefault(settings.getCompletionPrice(), completionPricePerMillion);
+        double cost = ((usage.getPromptTokens() - cached) * promptPrice
+                + cached * cachedPrice
+                + usage.getCompletionTokens() * completionPrice) / 1_000_000;
+        if (cost > 0) {
+            meterRegistry.counter("chatbot.gpt.cost", "stage", stage.tag()).increment(cost);
+        }
+    }
+
+    public void recordTruncation(GptStage stage, int removedTokens) {
+        meterRegistry.counter("chatbot.prompt.truncated.tokens", "stage", stage.tag()).increment(removedTokens);
+    }
+
+    private static double orDefault(Double value, double defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private Counter tokens(GptStage stage, String type) {
+        return meterRegistry.counter("chatbot.gpt.tokens", "stage", stage.tag(), "type", type);
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatMessageDto;
+import org.example.chatbot.util.TokenEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 계정의 분당 요청 수(RPM)/토큰 수(TPM) 한도를 넘지 않도록 나가는 GPT 호출을 조절하는 토큰 버킷입니다.
+ * <ul>
+ *   <li>INTERACTIVE(채팅): 요청의 남은 시간 예산만큼만 기다리고, 그래도 자리가 없으면 RATE_LIMITED로 실패</li>
+ *   <li>BATCH(식단 포맷팅): 자리가 날 때까지 줄을 서서 기다리며, 채팅 요청이 대기 중이거나
+ *       버킷 잔량이 batch-reserve 비율 아래로 내려가면 양보합니다.</li>
+ * </ul>
+ * redis.enabled=true이면 로컬 버킷에 더해 Redis의 분 단위 카운터로 여러 인스턴스가 같은 한도를 나눠 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptRateLimiter {
+
+    public enum Priority { INTERACTIVE, BATCH }
+
+    /**
+     * 로컬 한도 때문에 OpenAI를 호출하지 않았음을 나타냅니다. (서킷 브레이커 실패로 집계하지 않음)
+     */
+    public static class RateLimitedException extends RuntimeException {
+        public RateLimitedException(Priority priority) {
+            super("GPT 호출 한도 초과 (" + priority + ")");
+        }
+    }
+
+    private static final String REDIS_KEY_PREFIX = "chat:gpt-rate:";
+    private static final long MAX_BATCH_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${openai.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${openai.rate-limit.requests-per-minute:500}")
+    private long requestsPerMinute;
+
+    @Value("${openai.rate-limit.tokens-per-minute:200000}")
+    private long tokensPerMinute;
+
+    /**
+     * 배치 호출이 건드리지 않고 채팅용으로 남겨 두는 버킷 비율
+     */
+    @Value("${openai.rate-limit.batch-reserve:0.2}")
+    private double batchReserve;
+
+    /**
+     * 배치 호출이 자리를 기다리는 최대 시간
+     */
+    @Value("${openai.rate-limit.batch-max-wait:10m}")
+    private Duration batchMaxWait;
+
+    @Value("${openai.rate-limit.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefill;
+    private int waitingInteractive;
+
+    @PostConstruct
+    void init() {
+        availableRequests = requestsPerMinute;
+        availableTokens = tokensPerMinute;
+        lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 요청 메시지와 max_tokens로 이번 호출이 쓸 토큰 수를 대략 추정합니다.
+     */
+    public static int estimateTokens(ChatCompletionRequestDto request) {
+        int tokens = 0;
+        if (request.getMessages() != null) {
+            for (ChatMessageDto message : request.getMessages()) {
+                tokens += TokenEstimator.estimate(message.getContent());
+            }
+        }
+        int maxTokens = request.getMaxTokens() == null ? 0 : request.getMaxTokens();
+        return tokens + maxTokens;
+    }
+
+    public boolean acquireBatch(int estimatedTokens) {
+        return acquire(Priority.BATCH, estimatedTokens, batchMaxWait);
+    }
+
+    /**
+     * 호출 한 건의 자리를 확보합니다. maxWait 안에 확보하지 못하면 false를 반환합니다.
+     */
+    public boolean acquire(Priority priority, int estimatedTokens, Duration maxWait) {
+        if (!enabled) return true;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        long tokens = clampTokens(priority, estimatedTokens);
+        boolean acquired = acquireLocal(priority, tokens, deadline);
+        if (acquired && redisEnabled && !acquireShared(priority, tokens, deadline)) {
+            // 공유 한도에 막힌 호출은 나가지 않으므로 로컬 버킷에서 가져간 몫을 돌려준다
+            releaseLocal(tokens);
+            acquired = false;
+        }
+
+        sample.stop(meterRegistry.timer("chatbot.gpt.rate-limit.wait", "priority", tag(priority)));
+        if (!acquired) {
+            meterRegistry.counter("chatbot.gpt.rate-limit.denied", "priority", tag(priority)).increment();
+            log.warn("🚦 GPT 호출 한도 초과로 대기 실패: priority={}, tokens={}", priority, estimatedTokens);
+        }
+        return acquired;
+    }
+
+    private synchronized boolean acquireLocal(Priority priority, long tokens, long deadline) {
+        boolean interactive = priority == Priority.INTERACTIVE;
+        if (interactive) waitingInteractive++;
+        try {
+            while (true) {
+                refill();
+                if (canTake(priority, tokens)) {
+                    availableRequests -= 1;
+                    availableTokens -= tokens;
+                    return true;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+
+                long waitNanos = Math.min(remaining, nanosUntilAvailable(priority, tokens));
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (interactive) waitingInteractive--;
+            notifyAll();
+        }
+    }
+
+    private synchronized void releaseLocal(long tokens) {
+        availableRequests = Math.min(requestsPerMinute, availableRequests + 1);
+        availableTokens = Math.min(tokensPerMinute, availableTokens + tokens);
+        notifyAll();
+    }
+
+    /**
+     * 이 우선순위가 쓸 수 있는 분당 토큰보다 큰 추정치는 영원히 확보할 수 없으므로 그 값으로 자릅니다.
+     * (로컬 버킷과 Redis 카운터에 같은 값을 사용)
+     */
+    private long clampTokens(Priority priority, int estimatedTokens) {
+        return Math.min(estimatedTokens, (long) (tokensPerMinute * share(priority)));
+    }
+
+    private double share(Priority priority) {
+        return priority == Priority.BATCH ? 1 - batchReserve : 1;
+    }
+
+    private boolean canTake(Priority priority, long tokens) {
+        if (priority == Priority.INTERACTIVE) {
+            return availableRequests >= 1 && availableTokens >= tokens;
+        }
+        return waitingInteractive == 0
+                && availableRequests - 1 >= requestsPerMinute * batchReserve
+                && availableTokens - tokens >= tokensPerMinute * batchReserve;
+    }
+
+    private long nanosUntilAvailable(Priority priority, long tokens) {
+        double reserve = priority == Priority.BATCH ? batchReserve : 0;
+        double requestDeficit = 1 + requestsPerMinute * reserve - availableRequests;
+        double tokenDeficit = tokens + tokensPerMinute * reserve - availableTokens;
+
+        long nanos = Math.max(
+                (long) (Math.max(0, requestDeficit) / requestsPerMinute * TimeUnit.MINUTES.toNanos(1)),
+                (long) (Math.max(0, tokenDeficit) / tokensPerMinute * TimeUnit.MINUTES.toNanos(1)));
+        // 배치는 채팅 요청이 빠져나가면 바로 다시 확인해야 하므로 너무 오래 자지 않는다
+        return priority == Priority.BATCH ? Math.min(Math.max(nanos, 1), MAX_BATCH_POLL_NANOS) : nanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double minutes = (double) (now - lastRefill) / TimeUnit.MINUTES.toNanos(1);
+        lastRefill = now;
+        availableRequests = Math.min(requestsPerMinute, availableRequests + minutes * requestsPerMinute);
+        availableTokens = Math.min(tokensPerMinute, availableTokens + minutes * tokensPerMinute);
+    }
+
+    /**
+     * Redis의 분 단위 카운터(INCRBY)로 여러 인스턴스가 같은 한도를 나눠 씁니다.
+     * 한도를 넘으면 증가분을 되돌리고 다음 분까지 기다리며, Redis 장애 시에는 로컬 버킷만으로 동작합니다.
+     */
+    private boolean acquireShared(Priority priority, long tokens, long deadline) {
+        double share = share(priority);
+        try {
+            while (true) {
+                long minute = System.currentTimeMillis() / 60_000;
+                String requestKey = REDIS_KEY_PREFIX + minute + ":requests";
+                String tokenKey = REDIS_KEY_PREFIX + minute + ":tokens";
+
+                Long requests = redisTemplate.opsForValue().increment(requestKey);
+                Long usedTokens = redisTemplate.opsForValue().increment(tokenKey, tokens);
+                redisTemplate.expire(requestKey, Duration.ofMinutes(2));
+                redisTemplate.expire(tokenKey, Duration.ofMinutes(2));
+
+                if (requests != null && usedTokens != null
+                        && requests <= requestsPerMinute * share && usedTokens <= tokensPerMinute * share) {
+                    return true;
+                }
+                redisTemplate.opsForValue().decrement(requestKey);
+                redisTemplate.opsForValue().decrement(tokenKey, tokens);
+
+                long untilNextMinute = TimeUnit.MILLISECONDS.toNanos(60_000 - System.currentTimeMillis() % 60_000);
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= untilNextMinute) return false;
+                TimeUnit.NANOSECONDS.sleep(untilNextMinute);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("❗ GPT 공유 호출 한도(Redis) 확인 실패, 로컬 한도만 적용: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private static String tag(Priority priority) {
+        return priority.name().toLowerCase(Locale.ROOT);
+    }
+}
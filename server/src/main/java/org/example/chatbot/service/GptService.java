@@ -2,35 +2,114 @@ package org.example.chatbot.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.client.OpenAiClient;
+import org.example.chatbot.client.OpenAiException;
+import org.example.chatbot.config.GptStageProperties;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.example.chatbot.dto.GptResult;
 import org.example.chatbot.dto.IntentResultDto;
+import org.example.chatbot.util.Deadline;
+import org.example.chatbot.util.GptPrompt;
 import org.example.chatbot.util.GptPromptBuilder;
+import org.example.chatbot.util.SingleFlight;
+import org.example.chatbot.util.TokenEstimator;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GptService {
 
-    private final RestTemplate restTemplate;
+    private final OpenAiClient openAiClient;
+    private final MeterRegistry meterRegistry;
+    private final IntentRuleEngine intentRuleEngine;
+    private final IntentCache intentCache;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final GptCircuitBreaker circuitBreaker;
+    private final FallbackAnswerCache fallbackAnswerCache;
+    private final GptMetrics gptMetrics;
+    private final GptRateLimiter rateLimiter;
+    private final GptStageProperties stageProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SingleFlight<PromptKey, ChatCompletionResponseDto> inFlightPrompts = new SingleFlight<>();
 
-    @Value("${openai.api.key}")
-    private String apiKey;
-
-    @Value("${openai.api.url}")
-    private String apiUrl;
+    private record PromptKey(GptPrompt prompt, boolean jsonResponse, int maxTokens) {
+    }
 
     @Value("${openai.api.model}")
     private String model;
 
-    private static final Set<String> VALID_INTENTS = Set.of(
+    /**
+     * intent 분류 방식: two-stage(정제 → 분류 2회 호출) 또는 one-shot(1회 호출, 실패 시 two-stage로 전환)
+     */
+    @Value("${openai.classify.mode:two-stage}")
+    private String classifyMode;
+
+    /**
+     * GPT 호출 전에 로컬 규칙 엔진으로 확정 가능한 입력을 처리할지 여부
+     */
+    @Value("${chatbot.intent.rule-engine.enabled:true}")
+    private boolean ruleEngineEnabled;
+
+    private static final String MODE_ONE_SHOT = "one-shot";
+    private static final String MODE_TWO_STAGE = "two-stage";
+    private static final String MODE_TWO_STAGE_FALLBACK = "two-stage-fallback";
+    private static final String MODE_DEGRADED = "degraded";
+    private static final String MODE_GUESS = "guess";
+
+    /**
+     * 채팅 요청 하나가 GPT 호출(정제 → 분류 → fallback)에 쓸 수 있는 전체 시간
+     */
+    @Value("${openai.deadline.chat:20s}")
+    private Duration chatBudget;
+
+    /**
+     * 식단 포맷팅(배치) 호출 한 건의 시간 제한
+     */
+    @Value("${openai.deadline.format-meal:60s}")
+    private Duration formatTimeout;
+
+    /**
+     * 진행 중인 동일 프롬프트 호출에 합류할지 여부 (single-flight)
+     */
+    @Value("${openai.single-flight.enabled:true}")
+    private boolean singleFlightEnabled;
+
+    /**
+     * GPT에 보내는 사용자 입력의 최대 추정 토큰 수 (넘으면 잘라냄)
+     */
+    @Value("${openai.prompt.max-input-tokens:200}")
+    private int maxInputTokens;
+
+    @Value("${openai.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    /**
+     * 이 시간 안에 정제/분류 응답이 없으면 같은 요청을 한 번 더 보냅니다. (지연 꼬리 구간 대응)
+     */
+    @Value("${openai.hedge.delay:2s}")
+    private Duration hedgeDelay;
+
+    static final Set<String> VALID_INTENTS = Set.of(
             "학생식당", "교직원식당", "기숙사식당",
             "학사공지", "장학공지", "한경공지", "학사일정",
             "식당 미지정", "공지", "공지사항", "전체공지"
@@ -71,18 +150,132 @@ public class GptService {
         return null;
     }
 
-    public IntentResultDto classifyIntent(String userInput) {
-        String normalizePrompt = GptPromptBuilder.buildNormalizePrompt(userInput);
-        String normalized = sendToGpt(normalizePrompt).trim();
+    /**
+     * 한 번의 채팅 요청(분류 + fallback 답변)이 GPT 호출에 쓸 수 있는 시간 예산을 생성합니다.
+     */
+    public Deadline newChatDeadline() {
+        return Deadline.after(chatBudget);
+    }
+
+    public IntentResultDto classifyIntent(String userInput, Deadline deadline) {
+        return classify(userInput, input -> {
+            IntentResultDto result = classifyWithGpt(input, deadline);
+            intentCache.put(input, result);
+            localIntentClassifier.observe(input, result);
+            return result;
+        });
+    }
+
+    /**
+     * 과부하 상태에서 GPT를 호출하지 않고 로컬 규칙 엔진 → 캐시 → 로컬 모델 → 키워드 규칙만으로 intent를 분류합니다.
+     */
+    public IntentResultDto classifyIntentLocally(String userInput) {
+        return classify(userInput, input -> degradedIntent(input, GptResult.Status.OVERLOADED));
+    }
+
+    /**
+     * GPT 호출 없이 로컬 규칙 엔진과 키워드 규칙만으로 intent를 추측합니다. (데이터 선조회용, 캐시/메트릭에 기록하지 않음)
+     * 추측할 수 없으면 null을 반환합니다.
+     */
+    public IntentResultDto guessIntent(String userInput) {
+        if (ruleEngineEnabled) {
+            Optional<IntentResultDto> resolved = intentRuleEngine.resolve(userInput);
+            if (resolved.isPresent()) return resolved.get();
+        }
+        String intent = forceIntentIfContains(userInput);
+        if ("공지".equals(intent) || "공지사항".equals(intent)) {
+            intent = "전체공지";
+        }
+        return intent == null ? null : new IntentResultDto(intent, null, null, MODE_GUESS);
+    }
+
+    private IntentResultDto classify(String userInput, Function<String, IntentResultDto> classifier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        IntentResultDto result = ruleEngineEnabled
+                ? intentRuleEngine.resolve(userInput).orElse(null)
+                : null;
+        if (result == null) {
+            result = intentCache.get(userInput).orElse(null);
+        }
+        if (result == null) {
+            result = localIntentClassifier.classify(userInput).orElse(null);
+        }
+        if (result == null) {
+            result = classifier.apply(userInput);
+        }
+
+        log.info("📥 intent 분류 완료: mode={}, intent={}, keyword={}", result.getSource(), result.getIntent(), result.getKeyword());
+        sample.stop(meterRegistry.timer("chatbot.intent.classify", "mode", result.getSource()));
+        return result;
+    }
+
+    private IntentResultDto classifyWithGpt(String userInput, Deadline deadline) {
+        boolean oneShot = MODE_ONE_SHOT.equalsIgnoreCase(classifyMode);
+
+        if (oneShot) {
+            GptResult response = sendToGpt(GptStage.ONE_SHOT, GptPromptBuilder.buildOneShotClassifyPrompt(userInput), true, deadline);
+            if (!response.isSuccess()) {
+                return degradedIntent(userInput, response.status());
+            }
+            IntentResultDto result = parseOneShot(userInput, response.content());
+            if (result != null) {
+                result.setSource(MODE_ONE_SHOT);
+                return result;
+            }
+            log.warn("📥 one-shot 분류 응답을 해석할 수 없어 2단계 분류로 전환합니다.");
+        }
+
+        IntentResultDto result = classifyTwoStage(userInput, deadline);
+        if (!result.isDegraded()) {
+            result.setSource(oneShot ? MODE_TWO_STAGE_FALLBACK : MODE_TWO_STAGE);
+        }
+        return result;
+    }
+
+    /**
+     * one-shot JSON 응답(normalized, intent, keyword)을 해석합니다.
+     * 응답이 JSON이 아니거나 해석할 수 없으면 null을 반환해 2단계 분류로 넘깁니다.
+     */
+    private IntentResultDto parseOneShot(String userInput, String rawContent) {
+        String content = sanitizeGptResponse(rawContent).trim();
+
+        log.info("📥 GPT one-shot 응답(sanitized): {}", content);
+
+        if (!content.startsWith("{")) {
+            return null;
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(content);
+            String normalized = root.hasNonNull("normalized") ? root.get("normalized").asText() : userInput;
+            log.info("📥 정제된 문장(one-shot): {}", normalized);
+            return resolveIntent(userInput, normalized, root);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private IntentResultDto classifyTwoStage(String userInput, Deadline deadline) {
+        GptPrompt normalizePrompt = GptPromptBuilder.buildNormalizePrompt(userInput);
+        GptResult normalizeResponse = sendToGpt(GptStage.NORMALIZE, normalizePrompt, false, deadline);
+        if (!normalizeResponse.isSuccess()) {
+            return degradedIntent(userInput, normalizeResponse.status());
+        }
+        String normalized = normalizeResponse.content().trim();
 
         log.info("📥 정제된 문장: {}", normalized);
 
-        String classifyPrompt = GptPromptBuilder.buildClassifyPrompt(normalized);
-        String rawContent = sendToGpt(classifyPrompt);
+        GptPrompt classifyPrompt = GptPromptBuilder.buildClassifyPrompt(normalized);
+        GptResult classifyResponse = sendToGpt(GptStage.CLASSIFY, classifyPrompt, false, deadline);
+        if (!classifyResponse.isSuccess()) {
+            return degradedIntent(userInput, classifyResponse.status());
+        }
+        String rawContent = classifyResponse.content();
         String content = sanitizeGptResponse(rawContent).trim();
 
-        log.error("📥 GPT 원문 응답(raw): {}", rawContent);
-        log.error("📥 GPT 정리된 응답(sanitized): {}", content);
+        log.debug("📥 GPT 원문 응답(raw): {}", rawContent);
+        log.debug("📥 GPT 정리된 응답(sanitized): {}", content);
 
         try {
             if (!content.startsWith("{")) {
@@ -90,39 +283,58 @@ public class GptService {
             }
 
             JsonNode root = objectMapper.readTree(content);
-            String intent = root.has("intent") ? root.get("intent").asText(null) : null;
-            if (intent == null || intent.equals("없음") || !VALID_INTENTS.contains(intent)) {
-                intent = forceIntentIfContains(normalized);
-                if (intent == null) {
-                    intent = forceIntentIfContains(userInput);
-                }
-            }
-            String keyword = root.has("keyword") ? root.get("keyword").asText(null) : null;
+            return resolveIntent(userInput, normalized, root);
+        } catch (Exception e) {
+            return handleIntentFallback(userInput, content);
+        }
+    }
 
-            if (userInput.contains("일정")) {
-                log.error("📥 질문에 '일정' 키워드 감지, intent를 '학사일정'으로 강제 지정합니다.");
-                intent = "학사일정";
-            }
+    /**
+     * GPT 호출이 실패했을 때 로컬 키워드 규칙(forceIntentIfContains)만으로 intent를 보정합니다.
+     * 식단/공지처럼 DB로 답할 수 있는 질문은 GPT 없이도 응답할 수 있도록 하기 위함입니다.
+     */
+    private IntentResultDto degradedIntent(String userInput, GptResult.Status status) {
+        String intent = forceIntentIfContains(userInput);
+        if ("공지".equals(intent) || "공지사항".equals(intent)) {
+            intent = "전체공지";
+        }
+        if (intent == null || !VALID_INTENTS.contains(intent)) {
+            intent = "없음";
+        }
+        log.warn("⚠️ GPT 분류 실패({}), 로컬 규칙으로 intent='{}' 보정", status, intent);
+        return new IntentResultDto(intent, null, null, MODE_DEGRADED, status);
+    }
 
-            if ("없음".equals(intent) || intent == null) {
-                intent = forceIntentIfContains(normalized);
-                if (intent == null) {
-                    intent = forceIntentIfContains(userInput);
-                }
-                if (intent != null) {
-                    log.warn("📥 GPT 응답이 '없음'이지만 강제로 intent='{}' 지정", intent);
-                }
+    private IntentResultDto resolveIntent(String userInput, String normalized, JsonNode root) {
+        String intent = root.has("intent") ? root.get("intent").asText(null) : null;
+        if (intent == null || intent.equals("없음") || !VALID_INTENTS.contains(intent)) {
+            intent = forceIntentIfContains(normalized);
+            if (intent == null) {
+                intent = forceIntentIfContains(userInput);
             }
+        }
+        String keyword = root.has("keyword") ? root.get("keyword").asText(null) : null;
 
-            if (intent == null || !VALID_INTENTS.contains(intent)) {
-                return new IntentResultDto("없음", null, "죄송해요, 이해하지 못했어요. 더 구체적으로 말씀해 주세요!");
-            }
+        if (userInput.contains("일정")) {
+            log.error("📥 질문에 '일정' 키워드 감지, intent를 '학사일정'으로 강제 지정합니다.");
+            intent = "학사일정";
+        }
 
-            return new IntentResultDto(intent, keyword, null);
+        if ("없음".equals(intent) || intent == null) {
+            intent = forceIntentIfContains(normalized);
+            if (intent == null) {
+                intent = forceIntentIfContains(userInput);
+            }
+            if (intent != null) {
+                log.warn("📥 GPT 응답이 '없음'이지만 강제로 intent='{}' 지정", intent);
+            }
+        }
 
-        } catch (Exception e) {
-            return handleIntentFallback(userInput, content);
+        if (intent == null || !VALID_INTENTS.contains(intent)) {
+            return new IntentResultDto("없음", null, "죄송해요, 이해하지 못했어요. 더 구체적으로 말씀해 주세요!");
         }
+
+        return new IntentResultDto(intent, keyword, null);
     }
 
     private IntentResultDto handleIntentFallback(String userInput, String content) {
@@ -134,10 +346,23 @@ public class GptService {
         return new IntentResultDto("없음", null, content);
     }
 
-    public String generateFallbackAnswer(String userInput) {
-        String prompt = GptPromptBuilder.buildFallbackPrompt(userInput);
-        String rawAnswer = sendToGpt(prompt);
-        return stripMarkdown(rawAnswer);
+    public GptResult generateFallbackAnswer(String userInput, Deadline deadline) {
+        Optional<String> cached = fallbackAnswerCache.get(userInput);
+        if (cached.isPresent()) {
+            return GptResult.success(cached.get());
+        }
+
+        GptPrompt prompt = GptPromptBuilder.buildFallbackPrompt(userInput);
+        GptResult rawAnswer = sendToGpt(GptStage.FALLBACK, prompt, false, deadline);
+        return cacheFallbackAnswer(userInput, rawAnswer);
+    }
+
+    private GptResult cacheFallbackAnswer(String userInput, GptResult rawAnswer) {
+        if (!rawAnswer.isSuccess()) return rawAnswer;
+
+        String answer = stripMarkdown(rawAnswer.content());
+        fallbackAnswerCache.put(userInput, answer);
+        return GptResult.success(answer);
     }
 
     private String stripMarkdown(String input) {
@@ -146,59 +371,278 @@ public class GptService {
     }
 
     public String formatMealWithGpt(String rawMenu) {
-        String prompt = String.format(
-                """
-                아래 기숙사 식단 메뉴를 시간대별로 [아침], [점심], [저녁] 태그를 붙여 구분하고, 각 항목은 - 기호로 줄바꿈해 깔끔하게 출력해줘.
-                다른 텍스트는 절대 추가하지 말고, 메뉴 내용만 다음 예시와 같은 형태로 반환해:
-
-                [점심] 12:00~13:00
-                - 귀리밥
-                - 소고기무국 (호주산)
-                ...
-                
-                [저녁] 17:00~18:10
-                - 참치김치밥
-                ...
-                
-                만약 [아침], [점심], [저녁] 시간대가 명확하지 않다면 절대로 [전체] 같은 임의의 태그를 넣지 말고, 그냥 항목만 - 기호로 나열해줘.
-                
-                아래는 메뉴 원본이다:
-                %s
-                """,
-                rawMenu
-        );
-        String gptResult = sendToGpt(prompt).trim();
-        return postProcessFormattedMenu(gptResult);
+        GptPrompt prompt = GptPromptBuilder.buildFormatMealPrompt(rawMenu);
+        awaitBatchSlot(prompt, maxTokens(GptStage.FORMAT_MEAL));
+        GptResult gptResult = sendToGpt(GptStage.FORMAT_MEAL, prompt, false, Deadline.after(formatTimeout));
+        if (!gptResult.isSuccess()) {
+            throw new IllegalStateException("GPT 식단 포맷팅 실패: " + gptResult.status());
+        }
+        return postProcessFormattedMenu(gptResult.content().trim());
     }
 
-    private String sendToGpt(String prompt) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * 여러 날짜의 식단을 한 번의 호출로 포맷팅합니다. (id → 포맷팅 결과)
+     * 응답에서 빠졌거나 비어 있는 id는 결과에 포함하지 않으므로, 호출자가 단건 포맷팅으로 보완해야 합니다.
+     */
+    public Map<Long, String> formatMealsWithGpt(Map<Long, String> rawMenus) {
+        if (rawMenus.isEmpty()) return Map.of();
+
+        GptPrompt prompt = GptPromptBuilder.buildFormatMealBatchPrompt(rawMenus);
+        int maxTokens = maxTokens(GptStage.FORMAT_MEAL) * rawMenus.size();
+        awaitBatchSlot(prompt, maxTokens);
+        GptResult gptResult = sendToGpt(GptStage.FORMAT_MEAL, prompt, true, Deadline.after(formatTimeout), maxTokens);
+        if (!gptResult.isSuccess()) {
+            throw new IllegalStateException("GPT 식단 배치 포맷팅 실패: " + gptResult.status());
+        }
 
-        Map<String, Object> body = Map.of(
-                "model", model,
-                "temperature", 0.0,
-                "max_tokens", 500,
-                "messages", List.of(Map.of("role", "user", "content", prompt))
-        );
+        Map<Long, String> formatted = new LinkedHashMap<>();
+        try {
+            JsonNode menus = objectMapper.readTree(gptResult.content()).path("menus");
+            for (JsonNode menu : menus) {
+                long id = menu.path("id").asLong(-1);
+                String text = menu.path("formatted").asText("").trim();
+                if (rawMenus.containsKey(id) && !text.isEmpty()) {
+                    formatted.put(id, postProcessFormattedMenu(text));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("❗ 식단 배치 포맷팅 응답 해석 실패: {}", e.getMessage());
+        }
+        return formatted;
+    }
+
+    /**
+     * 배치 호출은 채팅 요청에 밀려 한도 자리를 기다릴 수 있으므로, 시간 제한(Deadline)은 자리를 확보한 뒤부터 잽니다.
+     */
+    private void awaitBatchSlot(GptPrompt prompt, int maxTokens) {
+        int estimatedTokens = GptRateLimiter.estimateTokens(newRequest(GptStage.FORMAT_MEAL, prompt, maxTokens));
+        if (!rateLimiter.acquireBatch(estimatedTokens)) {
+            throw new IllegalStateException("GPT 식단 포맷팅 실패: 호출 한도 대기 시간 초과");
+        }
+    }
+
+    /**
+     * fallback 답변을 스트리밍으로 생성합니다. 토큰 조각이 도착할 때마다 onDelta를 호출하고,
+     * 스트림이 끝나면 전체 답변을 GptResult로 반환합니다. (시간 예산/서킷 브레이커 규칙은 sendToGpt와 동일)
+     */
+    public GptResult streamFallbackAnswer(String userInput, Deadline deadline, Consumer<String> onDelta) {
+        Optional<String> cached = fallbackAnswerCache.get(userInput);
+        if (cached.isPresent()) {
+            onDelta.accept(cached.get());
+            return GptResult.success(cached.get());
+        }
+
+        GptPrompt prompt = fitToBudget(GptStage.FALLBACK, GptPromptBuilder.buildFallbackPrompt(userInput));
+        ChatCompletionRequestDto request = newRequest(GptStage.FALLBACK, prompt, maxTokens(GptStage.FALLBACK));
+        GptResult rawAnswer = invoke(GptStage.FALLBACK, deadline, timeout -> guarded(timeout, () -> {
+            if (!acquireSlot(GptStage.FALLBACK, request, timeout)) {
+                return CompletableFuture.failedFuture(new GptRateLimiter.RateLimitedException(GptStage.FALLBACK.priority()));
+            }
+            return upstream(GptStage.FALLBACK,
+                    openAiClient.streamChatAsync(request, timeout, delta -> onDelta.accept(stripMarkdown(delta))));
+        }));
+        return cacheFallbackAnswer(userInput, rawAnswer);
+    }
+
+    /**
+     * 일반(비스트리밍) GPT 호출
+     * 정제/분류 단계(GptStage.hedgeable)는 hedge 지연 후에도 응답이 없으면 같은 요청을 한 번 더 보냅니다.
+     */
+    private GptResult sendToGpt(GptStage stage, GptPrompt prompt, boolean jsonResponse, Deadline deadline) {
+        return sendToGpt(stage, prompt, jsonResponse, deadline, maxTokens(stage));
+    }
+
+    private GptResult sendToGpt(GptStage stage, GptPrompt prompt, boolean jsonResponse, Deadline deadline, int maxTokens) {
+        prompt = fitToBudget(stage, prompt);
+        ChatCompletionRequestDto request = newRequest(stage, prompt, maxTokens);
+        if (jsonResponse) {
+            request.withJsonResponse();
+        }
+        if (!singleFlightEnabled) {
+            return invoke(stage, deadline, timeout -> guarded(timeout, () -> call(stage, request, timeout)));
+        }
+
+        // 같은 프롬프트로 동시에 들어온 호출은 OpenAI 요청 하나를 공유합니다. (점심시간 "오늘 학식 뭐야" 폭주 대응)
+        // 서킷 브레이커는 리더의 요청에만 적용되고, 합류한 호출은 리더의 결과를 그대로 받습니다.
+        PromptKey key = new PromptKey(prompt, jsonResponse, maxTokens);
+        return invoke(stage, deadline, timeout -> inFlightPrompts.execute(key,
+                () -> guarded(timeout, () -> call(stage, request, timeout)),
+                () -> meterRegistry.counter("chatbot.gpt.coalesced").increment()));
+    }
+
+    /**
+     * 단계별 모델/temperature(openai.stages.*)를 적용한 요청을 만듭니다.
+     */
+    private ChatCompletionRequestDto newRequest(GptStage stage, GptPrompt prompt, int maxTokens) {
+        GptStageProperties.Stage settings = stageProperties.get(stage);
+        String stageModel = settings.getModel() != null ? settings.getModel() : model;
+        double temperature = settings.getTemperature() != null ? settings.getTemperature() : 0.0;
+        return new ChatCompletionRequestDto(stageModel, temperature, maxTokens, prompt.messages());
+    }
+
+    private int maxTokens(GptStage stage) {
+        Integer maxTokens = stageProperties.get(stage).getMaxTokens();
+        return maxTokens != null ? maxTokens : stage.defaultMaxTokens();
+    }
+
+    /**
+     * 사용자 입력(user 메시지)이 토큰 예산을 넘으면 뒤쪽을 잘라냅니다. (식단 포맷팅은 DB 원문이라 제외)
+     */
+    private GptPrompt fitToBudget(GptStage stage, GptPrompt prompt) {
+        if (stage == GptStage.FORMAT_MEAL) return prompt;
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        int userTokens = TokenEstimator.estimate(prompt.user());
+        if (userTokens <= maxInputTokens) return prompt;
+
+        String truncated = TokenEstimator.truncate(prompt.user(), maxInputTokens);
+        gptMetrics.recordTruncation(stage, userTokens - TokenEstimator.estimate(truncated));
+        log.warn("✂️ 사용자 입력이 토큰 예산({})을 넘어 잘라냈습니다: stage={}, tokens={}", maxInputTokens, stage.tag(), userTokens);
+        return new GptPrompt(prompt.system(), truncated, prompt.systemTokens());
+    }
+
+    /**
+     * GPT 호출의 공통 진입점입니다.
+     * 시간 예산이 남아 있을 때만 호출하며, 실패는 예외나 문자열 대신 GptResult 상태로 반환합니다.
+     *
+     * @param call 남은 시간 예산을 받아 응답을 돌려주는 호출 (서킷 브레이커는 call 안에서 guarded로 적용)
+     */
+    private GptResult invoke(GptStage stage, Deadline deadline, Function<Duration, CompletableFuture<ChatCompletionResponseDto>> call) {
+        long startedAt = System.nanoTime();
+        GptResult result = invokeUnmetered(stage, deadline, call);
+        gptMetrics.recordCall(stage, result.status(), Duration.ofNanos(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    private GptResult invokeUnmetered(GptStage stage, Deadline deadline, Function<Duration, CompletableFuture<ChatCompletionResponseDto>> call) {
+        Duration timeout = deadline.remaining();
+        Duration stageTimeout = stageProperties.get(stage).getTimeout();
+        if (stageTimeout != null && stageTimeout.compareTo(timeout) < 0) {
+            timeout = stageTimeout;
+        }
+        if (timeout.isZero()) {
+            log.warn("⏱️ GPT 호출 생략: 요청 시간 예산 소진");
+            return GptResult.failure(GptResult.Status.TIMEOUT);
+        }
 
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, request, Map.class);
-            return extractContentFromResponse(response);
+            String content = call.apply(timeout)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join()
+                    .firstContent();
+            if (content == null || content.isBlank()) {
+                throw new IllegalStateException("GPT 응답에 content가 없습니다.");
+            }
+            return GptResult.success(content);
         } catch (Exception e) {
-            log.error("❗ GPT 호출 실패: {}", e.getMessage());
-            return "메뉴 포맷팅에 실패했습니다.";
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof GptCircuitBreaker.CircuitOpenException) {
+                log.warn("⛔ GPT 호출 생략: 서킷 브레이커 열림");
+                return GptResult.failure(GptResult.Status.CIRCUIT_OPEN);
+            }
+            if (cause instanceof GptRateLimiter.RateLimitedException) {
+                log.warn("🚦 GPT 호출 생략: {}", cause.getMessage());
+                return GptResult.failure(GptResult.Status.RATE_LIMITED);
+            }
+            GptResult.Status status = toFailureStatus(cause);
+            log.error("❗ GPT 호출 실패({}): {}", status, cause.getMessage());
+            return GptResult.failure(status);
+        }
+    }
+
+    /**
+     * 서킷 브레이커가 허용할 때만 OpenAI 요청을 보내고, 그 요청의 결과를 브레이커에 한 번 기록합니다.
+     * single-flight에서는 리더만 이 메서드를 거치므로 합류한 호출 수와 무관하게 업스트림 요청 하나당 한 번만 기록되며,
+     * 반열림(half-open) 상태의 시험 호출에 합류한 호출도 거절되지 않고 시험 호출의 결과를 받습니다.
+     */
+    private CompletableFuture<ChatCompletionResponseDto> guarded(Duration timeout, Supplier<CompletableFuture<ChatCompletionResponseDto>> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new GptCircuitBreaker.CircuitOpenException());
+        }
+
+        CompletableFuture<ChatCompletionResponseDto> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
         }
+        // 응답이 끝내 오지 않아도 시험 호출 권한이 묶이지 않도록 요청 자체에도 시간 제한을 겁니다.
+        return response.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof GptRateLimiter.RateLimitedException) {
+                // 로컬 한도에 걸려 실제로 보내지 않은 요청은 기록하지 않음
+                circuitBreaker.release();
+            } else if (cause != null || result.firstContent() == null || result.firstContent().isBlank()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        });
+    }
+
+    /**
+     * hedge가 켜져 있으면 hedge-delay 후에도 결과가 없을 때 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용합니다.
+     * (첫 요청이 hedge-delay 전에 실패한 경우에는 재시도 역할을 합니다)
+     */
+    private CompletableFuture<ChatCompletionResponseDto> call(GptStage stage, ChatCompletionRequestDto request, Duration timeout) {
+        if (!acquireSlot(stage, request, timeout)) {
+            return CompletableFuture.failedFuture(new GptRateLimiter.RateLimitedException(stage.priority()));
+        }
+
+        CompletableFuture<ChatCompletionResponseDto> primary = upstream(stage, openAiClient.chatAsync(request, timeout));
+        if (!hedgeEnabled || !stage.hedgeable() || timeout.compareTo(hedgeDelay) <= 0) {
+            return primary;
+        }
+
+        CompletableFuture<ChatCompletionResponseDto> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        BiConsumer<ChatCompletionResponseDto, Throwable> settle = (response, error) -> {
+            if (error == null) {
+                winner.complete(response);
+            } else if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(error);
+            }
+        };
+
+        primary.whenComplete(settle);
+        CompletableFuture.delayedExecutor(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (winner.isDone()) return;
+            // hedge는 여유가 있을 때만 보낸다 (한도를 기다리면서까지 보낼 이유가 없음)
+            if (!rateLimiter.acquire(stage.priority(), GptRateLimiter.estimateTokens(request), Duration.ZERO)) {
+                settle.accept(null, new GptRateLimiter.RateLimitedException(stage.priority()));
+                return;
+            }
+            meterRegistry.counter("chatbot.gpt.hedged").increment();
+            upstream(stage, openAiClient.chatAsync(request, timeout.minus(hedgeDelay))).whenComplete(settle);
+        });
+        return winner;
+    }
+
+    /**
+     * 채팅 호출은 남은 시간 예산 안에서 한도 자리를 기다립니다.
+     * 배치 호출은 awaitBatchSlot에서 미리 확보했으므로 여기서는 건너뜁니다.
+     * single-flight로 합쳐진 호출은 이 메서드를 거치지 않으므로 한도를 한 번만 씁니다.
+     */
+    private boolean acquireSlot(GptStage stage, ChatCompletionRequestDto request, Duration timeout) {
+        if (stage.priority() == GptRateLimiter.Priority.BATCH) return true;
+        return rateLimiter.acquire(stage.priority(), GptRateLimiter.estimateTokens(request), timeout);
     }
 
-    @SuppressWarnings("unchecked")
-    private String extractContentFromResponse(ResponseEntity<Map> response) {
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        return message.get("content").toString().trim();
+    /**
+     * 실제 OpenAI 요청 한 건의 토큰 사용량을 기록합니다.
+     */
+    private CompletableFuture<ChatCompletionResponseDto> upstream(GptStage stage, CompletableFuture<ChatCompletionResponseDto> request) {
+        return request.whenComplete((response, error) -> gptMetrics.recordUsage(stage, response));
+    }
+
+    private GptResult.Status toFailureStatus(Throwable cause) {
+        if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+            return GptResult.Status.TIMEOUT;
+        }
+        if (cause instanceof OpenAiException openAiException && openAiException.getStatusCode() == 429) {
+            return GptResult.Status.RATE_LIMITED;
+        }
+        return GptResult.Status.ERROR;
     }
 
     private String sanitizeGptResponse(String content) {
@@ -0,0 +1,51 @@
+package org.example.chatbot.service;
+
+/**
+ * GPT 호출 단계 (메트릭의 stage 태그 값)
+ */
+public enum GptStage {
+
+    NORMALIZE("normalize", true, GptRateLimiter.Priority.INTERACTIVE, 250),
+    CLASSIFY("classify", true, GptRateLimiter.Priority.INTERACTIVE, 100),
+    ONE_SHOT("one-shot", true, GptRateLimiter.Priority.INTERACTIVE, 300),
+    FALLBACK("fallback", false, GptRateLimiter.Priority.INTERACTIVE, 500),
+    FORMAT_MEAL("format-meal", false, GptRateLimiter.Priority.BATCH, 500);
+
+    private final String tag;
+    private final boolean hedgeable;
+    private final GptRateLimiter.Priority priority;
+    private final int defaultMaxTokens;
+
+    GptStage(String tag, boolean hedgeable, GptRateLimiter.Priority priority, int defaultMaxTokens) {
+        this.tag = tag;
+        this.hedgeable = hedgeable;
+        this.priority = priority;
+        this.defaultMaxTokens = defaultMaxTokens;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * 짧고 멱등인 호출(정제/분류)만 hedge 대상입니다.
+     */
+    public boolean hedgeable() {
+        return hedgeable;
+    }
+
+    /**
+     * 나가는 호출 한도(GptRateLimiter)에서의 우선순위
+     */
+    public GptRateLimiter.Priority priority() {
+        return priority;
+    }
+
+    /**
+     * openai.stages.<단계>.max-tokens를 지정하지 않았을 때의 출력 토큰 상한
+     * (정제 결과는 입력 길이(openai.prompt.max-input-tokens)를, 분류 결과는 짧은 JSON 한 줄을 넘지 않음)
+     */
+    public int defaultMaxTokens() {
+        return defaultMaxTokens;
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.example.chatbot.util.TextCanonicalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * classifyIntent 결과를 정규화된 입력 기준으로 캐싱합니다.
+ * 1차: 인스턴스 로컬 Caffeine(W-TinyLFU, 크기 제한) / 2차: Redis (인스턴스 간 공유)
+ * Redis 장애 시에는 캐시 미스로 취급하고 GPT 분류를 그대로 진행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntentCache {
+
+    private static final String KEY_PREFIX = "chat:intent:";
+    private static final String SOURCE = "cache";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.intent-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.intent-cache.ttl:6h}")
+    private Duration ttl;
+
+    @Value("${chatbot.intent-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, IntentResultDto> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "intentCache");
+    }
+
+    public Optional<IntentResultDto> get(String userInput) {
+        if (!enabled) return Optional.empty();
+
+        String key = TextCanonicalizer.canonicalize(userInput);
+        if (key.isEmpty()) return Optional.empty();
+
+        IntentResultDto local = localCache.getIfPresent(key);
+        if (local != null) {
+            record("local", "hit");
+            return Optional.of(copyOf(local));
+        }
+        record("local", "miss");
+
+        IntentResultDto remote = readRedis(key);
+        if (remote != null) {
+            record("redis", "hit");
+            localCache.put(key, remote);
+            return Optional.of(copyOf(remote));
+        }
+        record("redis", "miss");
+        return Optional.empty();
+    }
+
+    /**
+     * GPT로 확정된 intent만 저장합니다. ('없음'은 GPT 원문 답변을 담고 있고, GPT 실패로 보정된 결과는 일시적이라 캐싱하지 않음)
+     */
+    public void put(String userInput, IntentResultDto result) {
+        if (!enabled || result == null || result.isDegraded()
+                || result.getIntent() == null || "없음".equals(result.getIntent())) return;
+
+        String key = TextCanonicalizer.canonicalize(userInput);
+        if (key.isEmpty()) return;
+
+        localCache.put(key, result);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, result, ttl);
+        } catch (Exception e) {
+            log.warn("❗ intent 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private IntentResultDto readRedis(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return value instanceof IntentResultDto dto ? dto : null;
+        } catch (Exception e) {
+            log.warn("❗ intent 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private IntentResultDto copyOf(IntentResultDto cached) {
+        return new IntentResultDto(cached.getIntent(), cached.getKeyword(), cached.getAnswer(), SOURCE);
+    }
+
+    private void record(String tier, String result) {
+        meterRegistry.counter("chatbot.intent.cache", "tier", tier, "result", result).increment();
+    }
+}
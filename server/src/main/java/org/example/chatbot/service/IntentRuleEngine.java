@@ -0,0 +1,122 @@
+package org.example.chatbot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.example.chatbot.util.AhoCorasickMatcher;
+import org.example.chatbot.util.GptPromptBuilder;
+import org.example.chatbot.util.TextCanonicalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * GPT 호출 전에 실행되는 로컬 intent 규칙 엔진입니다.
+ * intent/키워드/날짜/불용어 어휘를 하나의 Aho-Corasick 오토마타로 컴파일해 두고,
+ * 입력이 어휘만으로 빈틈없이 설명되고 intent가 하나로 확정될 때만 결과를 반환합니다.
+ * 확정할 수 없으면 Optional.empty()를 반환하며, 이때는 기존 GPT 분류를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class IntentRuleEngine {
+
+    private enum TermType { INTENT, KEYWORD, IGNORABLE }
+
+    private record Term(TermType type, String value) {
+    }
+
+    private static final String SOURCE = "rule";
+
+    /**
+     * 사용자가 자주 쓰는 intent 별칭 (학식/교식/기식 등)
+     */
+    private static final Map<String, String> INTENT_ALIASES = Map.ofEntries(
+            Map.entry("학식", "학생식당"),
+            Map.entry("교식", "교직원식당"),
+            Map.entry("기식", "기숙사식당"),
+            Map.entry("교직원", "교직원식당"),
+            Map.entry("기숙사", "기숙사식당"),
+            Map.entry("식당", "식당 미지정"),
+            Map.entry("일정", "학사일정")
+    );
+
+    /**
+     * 분류가 모호해 GPT에게 맡겨야 하는 intent (controller에서 직접 라우팅하지 않는 값)
+     */
+    private static final Set<String> DEFERRED_INTENTS = Set.of("공지", "공지사항");
+
+    static final Set<String> NOTICE_LIKE_INTENTS = Set.of("학사공지", "장학공지", "한경공지", "학사일정", "전체공지");
+
+    /**
+     * 날짜·시간대·어미처럼 intent/keyword 판단에 영향을 주지 않는 어휘
+     * (날짜와 시간대는 controller에서 원문으로부터 다시 추출합니다)
+     */
+    private static final List<String> IGNORABLE_TERMS = List.of(
+            "오늘", "내일", "모레", "어제", "그제", "그저께",
+            "이번주", "다음주", "지난주", "저번주", "이번달", "다음달", "지난달", "저번달",
+            "아침", "점심", "저녁", "건강한끼", "맛난한끼",
+            "메뉴", "식단", "밥", "뭐야", "뭐임", "뭐나와", "뭐나옴", "뭐", "나와", "나옴", "나와요",
+            "알려줘", "알려주세요", "알려", "보여줘", "궁금해", "있어", "있나", "있음", "있어요",
+            "혹시", "좀", "은", "는", "이", "가", "에", "의", "요", "야"
+    );
+
+    private static final Pattern NUMERIC_DATE = Pattern.compile("\\d+\\s*(월|일)|\\d+[./\\-]\\d+([./\\-]\\d+)?");
+
+    private final AhoCorasickMatcher<Term> matcher = AhoCorasickMatcher.compile(buildVocabulary());
+
+    /**
+     * 입력이 로컬 규칙만으로 확정되는 경우 intent/keyword를 반환합니다.
+     */
+    public Optional<IntentResultDto> resolve(String userInput) {
+        if (userInput == null || userInput.isBlank()) return Optional.empty();
+
+        String compact = compact(userInput);
+        if (compact.isEmpty()) return Optional.empty();
+
+        Set<String> intents = new LinkedHashSet<>();
+        Set<String> keywords = new LinkedHashSet<>();
+        int covered = 0;
+
+        for (AhoCorasickMatcher.Match<Term> match : matcher.findLongestNonOverlapping(compact)) {
+            covered += match.end() - match.start();
+            Term term = match.value();
+            switch (term.type()) {
+                case INTENT -> intents.add(term.value());
+                case KEYWORD -> keywords.add(term.value());
+                case IGNORABLE -> { }
+            }
+        }
+
+        // 어휘로 설명되지 않는 글자(메뉴명 등)가 남아 있으면 GPT의 keyword 추출이 필요하다
+        if (covered < compact.length()) return Optional.empty();
+        if (intents.size() != 1 || keywords.size() > 1) return Optional.empty();
+
+        String intent = intents.iterator().next();
+        String keyword = keywords.isEmpty() ? null : keywords.iterator().next();
+        if (keyword != null && !NOTICE_LIKE_INTENTS.contains(intent)) return Optional.empty();
+
+        log.info("⚡ 로컬 규칙으로 intent 확정: input='{}', intent={}, keyword={}", userInput, intent, keyword);
+        return Optional.of(new IntentResultDto(intent, keyword, null, SOURCE));
+    }
+
+    private static String compact(String input) {
+        return TextCanonicalizer.canonicalize(NUMERIC_DATE.matcher(input).replaceAll(""));
+    }
+
+    private static Map<String, Term> buildVocabulary() {
+        Map<String, Term> vocabulary = new HashMap<>();
+
+        for (String term : IGNORABLE_TERMS) {
+            vocabulary.put(term, new Term(TermType.IGNORABLE, null));
+        }
+        for (String keyword : GptPromptBuilder.NOTICE_KEYWORDS) {
+            vocabulary.put(keyword.toLowerCase(Locale.ROOT), new Term(TermType.KEYWORD, keyword));
+        }
+        INTENT_ALIASES.forEach((alias, intent) -> vocabulary.put(alias, new Term(TermType.INTENT, intent)));
+        for (String intent : GptService.VALID_INTENTS) {
+            if (DEFERRED_INTENTS.contains(intent)) continue;
+            vocabulary.put(compact(intent), new Term(TermType.INTENT, intent));
+        }
+        return vocabulary;
+    }
+}
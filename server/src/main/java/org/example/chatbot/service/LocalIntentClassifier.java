@@ -0,0 +1,327 @@
+package org.example.chatbot.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.example.chatbot.util.DateTimeExtractor;
+import org.example.chatbot.util.GptPromptBuilder;
+import org.example.chatbot.util.NaiveBayesTextClassifier;
+import org.example.chatbot.util.TextCanonicalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GPT 분류 결과로 학습하는 로컬 intent 분류기입니다. (문자 n-gram 나이브 베이즈)
+ * GPT로 확정된 (입력, intent, keyword)를 training-log 파일에 쌓아 두고, 관리자 API로 학습해 model-path에 저장합니다.
+ * 학습 로그는 trainingLogExecutor에서 비동기로 기록하며, 파일이 training-log-max-size를 넘으면 {training-log}.1 로 교체합니다.
+ *
+ * mode
+ * - off: 사용하지 않음 (학습 로그도 기록하지 않음)
+ * - shadow: GPT 분류 결과 중 일부를 샘플링해 로컬 예측과의 일치 여부만 메트릭으로 기록
+ * - active: 규칙 엔진/캐시 다음 단계에서 신뢰도가 threshold 이상이면 GPT 호출 없이 결과를 사용 (shadow 기록도 함께 수행)
+ *
+ * 메뉴명처럼 입력에서 keyword를 뽑아야 하는 질문은 '__gpt__' 라벨로 학습해 항상 GPT에 맡기고,
+ * 공지 keyword는 NOTICE_KEYWORDS 사전에서 직접 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalIntentClassifier {
+
+    /**
+     * @param holdoutAccuracy 검증용으로 떼어 둔 데이터에서 threshold 이상으로 답한 예측의 정확도
+     * @param holdoutCoverage 검증용 데이터 중 threshold 이상으로 답한(GPT를 건너뛸 수 있는) 비율
+     */
+    public record TrainingReport(int samples, Map<String, Integer> labels, double holdoutAccuracy, double holdoutCoverage) {
+    }
+
+    private static final String MODE_OFF = "off";
+    private static final String MODE_SHADOW = "shadow";
+    private static final String MODE_ACTIVE = "active";
+
+    private static final String SOURCE = "local-model";
+    private static final String DEFER_LABEL = "__gpt__";
+    private static final int MIN_NGRAM = 1;
+    private static final int MAX_NGRAM = 3;
+    private static final double ALPHA = 0.5;
+    private static final double HOLDOUT_RATIO = 0.1;
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor trainingLogExecutor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<NaiveBayesTextClassifier> classifier = new AtomicReference<>();
+
+    /**
+     * off / shadow / active
+     */
+    @Value("${chatbot.local-classifier.mode:shadow}")
+    private String mode;
+
+    /**
+     * active 모드에서 GPT 대신 로컬 예측을 사용할 최소 사후 확률
+     */
+    @Value("${chatbot.local-classifier.threshold:0.9}")
+    private double threshold;
+
+    /**
+     * GPT 분류 결과 중 로컬 예측과 비교할 비율 (shadow 평가)
+     */
+    @Value("${chatbot.local-classifier.shadow-sample-rate:0.2}")
+    private double shadowSampleRate;
+
+    @Value("${chatbot.local-classifier.model-path:data/intent-model.json}")
+    private String modelPath;
+
+    /**
+     * GPT 분류 결과(사용자 입력 원문 포함)를 JSON Lines로 쌓는 파일. 기본값은 비어 있어 기록하지 않으며, 학습 데이터를 모을 때만 지정합니다.
+     */
+    @Value("${chatbot.local-classifier.training-log:}")
+    private String trainingLogPath;
+
+    /**
+     * GPT 분류 결과 중 학습 로그에 남길 비율
+     */
+    @Value("${chatbot.local-classifier.training-log-sample-rate:1.0}")
+    private double trainingLogSampleRate;
+
+    /**
+     * 학습 로그 파일의 최대 크기. 넘으면 {training-log}.1 로 옮기고(기존 .1은 삭제) 새 파일에 기록합니다.
+     */
+    @Value("${chatbot.local-classifier.training-log-max-size:20MB}")
+    private DataSize trainingLogMaxSize;
+
+    @Value("${chatbot.local-classifier.min-samples:200}")
+    private int minSamples;
+
+    @PostConstruct
+    void init() {
+        Path path = Path.of(modelPath);
+        if (!Files.exists(path)) {
+            log.info("🧠 로컬 intent 모델 파일이 없습니다: {} (mode={})", path, mode);
+            return;
+        }
+        try {
+            NaiveBayesTextClassifier.Model model = objectMapper.readValue(path.toFile(), NaiveBayesTextClassifier.Model.class);
+            classifier.set(NaiveBayesTextClassifier.of(model));
+            log.info("🧠 로컬 intent 모델 로드: {} (labels={}, mode={})", path, model.documents(), mode);
+        } catch (Exception e) {
+            log.warn("❗ 로컬 intent 모델 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * active 모드이고 신뢰도가 threshold 이상일 때만 결과를 반환합니다.
+     */
+    public Optional<IntentResultDto> classify(String userInput) {
+        NaiveBayesTextClassifier current = classifier.get();
+        if (!MODE_ACTIVE.equalsIgnoreCase(mode) || current == null) return Optional.empty();
+
+        NaiveBayesTextClassifier.Prediction prediction = current.predict(userInput);
+        if (prediction.label() == null || DEFER_LABEL.equals(prediction.label())
+                || prediction.confidence() < threshold) {
+            record("chatbot.local-classifier.predictions", "result", "deferred");
+            return Optional.empty();
+        }
+
+        record("chatbot.local-classifier.predictions", "result", "accepted");
+        String intent = prediction.label();
+        String keyword = IntentRuleEngine.NOTICE_LIKE_INTENTS.contains(intent) ? findNoticeKeyword(userInput) : null;
+        log.info("🧠 로컬 모델로 intent 확정: input='{}', intent={}, confidence={}", userInput, intent,
+                String.format("%.3f", prediction.confidence()));
+        return Optional.of(new IntentResultDto(intent, keyword, null, SOURCE));
+    }
+
+    /**
+     * GPT로 확정된 분류 결과를 학습 로그에 남기고, 샘플링된 요청은 로컬 예측과 비교합니다.
+     */
+    public void observe(String userInput, IntentResultDto gptResult) {
+        if (gptResult == null || gptResult.isDegraded() || gptResult.getIntent() == null) return;
+
+        String label = labelOf(gptResult);
+        if (MODE_OFF.equalsIgnoreCase(mode)) return;
+        if (ThreadLocalRandom.current().nextDouble() < trainingLogSampleRate) {
+            appendTrainingLog(userInput, gptResult);
+        }
+
+        NaiveBayesTextClassifier current = classifier.get();
+        boolean evaluating = MODE_SHADOW.equalsIgnoreCase(mode) || MODE_ACTIVE.equalsIgnoreCase(mode);
+        if (!evaluating || current == null) return;
+        if (ThreadLocalRandom.current().nextDouble() >= shadowSampleRate) return;
+
+        NaiveBayesTextClassifier.Prediction prediction = current.predict(userInput);
+        boolean confident = prediction.label() != null && prediction.confidence() >= threshold;
+        boolean agree = label.equals(prediction.label());
+        meterRegistry.counter("chatbot.local-classifier.shadow",
+                "result", agree ? "agree" : "disagree",
+                "confident", String.valueOf(confident)).increment();
+        if (confident && !agree) {
+            log.info("🧠 로컬 모델 불일치: input='{}', gpt={}, local={}({})", userInput, label, prediction.label(),
+                    String.format("%.3f", prediction.confidence()));
+        }
+    }
+
+    /**
+     * 학습 로그로 모델을 다시 학습해 파일에 저장하고 교체합니다.
+     * 검증 지표는 로그의 10%를 떼어 학습한 모델로 계산하고, 저장되는 모델은 전체 로그로 학습합니다.
+     */
+    public synchronized TrainingReport train() throws IOException {
+        List<NaiveBayesTextClassifier.Sample> samples = readTrainingLog();
+        if (samples.size() < minSamples) {
+            throw new IllegalStateException("학습 데이터가 부족합니다: %d건 (최소 %d건)".formatted(samples.size(), minSamples));
+        }
+
+        Collections.shuffle(samples, new Random(42));
+        int holdoutSize = Math.max(1, (int) (samples.size() * HOLDOUT_RATIO));
+        List<NaiveBayesTextClassifier.Sample> holdout = samples.subList(0, holdoutSize);
+        NaiveBayesTextClassifier evaluation = NaiveBayesTextClassifier.train(
+                samples.subList(holdoutSize, samples.size()), MIN_NGRAM, MAX_NGRAM, ALPHA);
+
+        int answered = 0;
+        int correct = 0;
+        for (NaiveBayesTextClassifier.Sample sample : holdout) {
+            NaiveBayesTextClassifier.Prediction prediction = evaluation.predict(sample.text());
+            if (prediction.label() == null || DEFER_LABEL.equals(prediction.label())
+                    || prediction.confidence() < threshold) continue;
+            answered++;
+            if (prediction.label().equals(sample.label())) correct++;
+        }
+
+        NaiveBayesTextClassifier trained = NaiveBayesTextClassifier.train(samples, MIN_NGRAM, MAX_NGRAM, ALPHA);
+        saveModel(trained.model());
+        classifier.set(trained);
+
+        TrainingReport report = new TrainingReport(samples.size(), trained.model().documents(),
+                answered == 0 ? 0 : (double) correct / answered, (double) answered / holdout.size());
+        log.info("🧠 로컬 intent 모델 학습 완료: {}", report);
+        return report;
+    }
+
+    /**
+     * keyword가 없거나 사전에서 다시 찾을 수 있는 공지 keyword면 intent를 그대로 라벨로 쓰고,
+     * 메뉴명처럼 입력에서 뽑아야 하는 keyword가 있으면 GPT에 맡기도록 라벨링합니다.
+     */
+    private static String labelOf(IntentResultDto result) {
+        String keyword = result.getKeyword();
+        if (keyword == null || keyword.isBlank() || DateTimeExtractor.containsDateKeyword(keyword)) {
+            return result.getIntent();
+        }
+        boolean noticeKeyword = GptPromptBuilder.NOTICE_KEYWORDS.stream().anyMatch(k -> k.equalsIgnoreCase(keyword.trim()));
+        return noticeKeyword && IntentRuleEngine.NOTICE_LIKE_INTENTS.contains(result.getIntent())
+                ? result.getIntent()
+                : DEFER_LABEL;
+    }
+
+    private static String findNoticeKeyword(String userInput) {
+        String canonical = TextCanonicalizer.canonicalize(userInput);
+        return GptPromptBuilder.NOTICE_KEYWORDS.stream()
+                .filter(keyword -> canonical.contains(keyword.toLowerCase(Locale.ROOT)))
+                .max(Comparator.comparingInt(String::length))
+                .orElse(null);
+    }
+
+    /**
+     * 요청 스레드에서는 줄만 만들고, 파일 기록은 trainingLogExecutor에 맡깁니다. (대기열이 가득 차면 버림)
+     */
+    private void appendTrainingLog(String userInput, IntentResultDto result) {
+        if (trainingLogPath == null || trainingLogPath.isBlank()) return;
+
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("input", userInput);
+        entry.put("intent", result.getIntent());
+        entry.put("keyword", result.getKeyword());
+        try {
+            byte[] line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+            trainingLogExecutor.execute(() -> writeTrainingLog(line));
+        } catch (IOException e) {
+            log.warn("❗ intent 학습 로그 기록 실패: {}", e.getMessage());
+        } catch (RejectedExecutionException e) {
+            record("chatbot.local-classifier.training-log", "result", "dropped");
+        }
+    }
+
+    private void writeTrainingLog(byte[] line) {
+        try {
+            Path path = Path.of(trainingLogPath);
+            createParentDirectories(path);
+            if (Files.exists(path) && Files.size(path) + line.length > trainingLogMaxSize.toBytes()) {
+                Files.move(path, rotatedTrainingLog(path), StandardCopyOption.REPLACE_EXISTING);
+                log.info("🧠 intent 학습 로그 교체: {} → {}", path, rotatedTrainingLog(path));
+            }
+            Files.write(path, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            record("chatbot.local-classifier.training-log", "result", "written");
+        } catch (IOException e) {
+            record("chatbot.local-classifier.training-log", "result", "error");
+            log.warn("❗ intent 학습 로그 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Path rotatedTrainingLog(Path path) {
+        return path.resolveSibling(path.getFileName() + ".1");
+    }
+
+    /**
+     * 교체된 이전 로그({training-log}.1)와 현재 로그를 순서대로 읽습니다.
+     * 같은 입력(정규화 기준)이 여러 번 기록된 경우 마지막 분류 결과만 사용합니다.
+     */
+    private List<NaiveBayesTextClassifier.Sample> readTrainingLog() throws IOException {
+        if (trainingLogPath.isBlank()) return new ArrayList<>();
+
+        Path path = Path.of(trainingLogPath);
+        List<String> lines = new ArrayList<>();
+        for (Path file : List.of(rotatedTrainingLog(path), path)) {
+            if (Files.exists(file)) lines.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+
+        Map<String, NaiveBayesTextClassifier.Sample> latest = new LinkedHashMap<>();
+        for (String line : lines) {
+            if (line.isBlank()) continue;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                String input = node.path("input").asText("");
+                String intent = node.path("intent").asText(null);
+                String key = TextCanonicalizer.canonicalize(input);
+                if (key.isEmpty() || intent == null) continue;
+
+                String keyword = node.hasNonNull("keyword") ? node.get("keyword").asText() : null;
+                String label = labelOf(new IntentResultDto(intent, keyword, null));
+                latest.put(key, new NaiveBayesTextClassifier.Sample(input, label));
+            } catch (IOException e) {
+                log.warn("❗ intent 학습 로그 줄 해석 실패: {}", e.getMessage());
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private void saveModel(NaiveBayesTextClassifier.Model model) throws IOException {
+        Path path = Path.of(modelPath);
+        createParentDirectories(path);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writeValue(temp.toFile(), model);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void createParentDirectories(Path path) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+    }
+
+    private void record(String name, String tagKey, String tagValue) {
+        meterRegistry.counter(name, tagKey, tagValue).increment();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.util.BkTree;
+import org.example.chatbot.util.HangulJamo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 메뉴 키워드 오타·표기 차이 보정 ("돈가스" → "돈까스", "제육복음" → "제육볶음")
+ * 세 식당 식단에 나온 메뉴 용어를 자모 단위 BK-tree(ChatReadModel.Snapshot.menuTerms)로 색인해 두고,
+ * 키워드와 자모 편집 거리가 가까운 용어를 함께 검색어로 사용합니다.
+ * 메뉴 이름은 "치즈돈까스"처럼 붙여 쓰는 경우가 많아 단어의 앞/뒤 부분(2자 이상)도 용어로 넣습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuKeywordMatcher {
+
+    private static final Pattern ITEM_SEPARATOR = Pattern.compile("[\\n,/·|]+");
+    private static final Pattern ANNOTATION = Pattern.compile("\\[[^\\]]*]|\\([^)]*\\)");
+    private static final Pattern BULLET = Pattern.compile("^[\\s\\-•*]+");
+    private static final int MAX_ITEM_LENGTH = 30;
+
+    private final ChatReadModel chatReadModel;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.menu-fuzzy.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 허용하는 최대 자모 편집 거리. 자모 7개 이하(대략 3음절 이하)의 짧은 키워드는 1로 제한하고, 그보다 긴 키워드에는 이 값을 그대로 씁니다.
+     */
+    @Value("${chatbot.menu-fuzzy.max-distance:2}")
+    private int maxDistance;
+
+    /**
+     * keyword 자신 외에 덧붙일 보정 후보의 최대 개수
+     */
+    @Value("${chatbot.menu-fuzzy.max-candidates:5}")
+    private int maxCandidates;
+
+    /**
+     * 키워드와 편집 거리 안에 있는 메뉴 용어를 가까운 순으로 덧붙여 반환합니다. (첫 항목은 항상 keyword 자신)
+     * 키워드가 메뉴 용어에 그대로 있으면 보정하지 않습니다. 키워드가 없으면 빈 목록입니다.
+     * 메뉴 용어 색인은 읽기 모델 스냅샷에만 있으므로, 스냅샷이 없을 때(DB 조회 경로)는 보정 없이 keyword만 반환합니다.
+     */
+    public List<String> expand(String keyword) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+
+        String query = keyword.strip();
+        List<String> keywords = new ArrayList<>(List.of(keyword));
+        if (!enabled || query.length() < 2) return keywords;
+
+        Optional<ChatReadModel.Snapshot> snapshot = chatReadModel.snapshot();
+        if (snapshot.isEmpty()) return keywords;
+
+        int bound = HangulJamo.decompose(query).length() <= 7 ? Math.min(1, maxDistance) : maxDistance;
+        List<BkTree.Match> matches = snapshot.get().menuTerms().search(query, bound);
+
+        if (matches.stream().anyMatch(match -> match.distance() == 0)) {
+            meterRegistry.counter("chatbot.menu-fuzzy", "result", "exact").increment();
+            return keywords;
+        }
+        matches.stream().limit(maxCandidates).map(BkTree.Match::term).forEach(keywords::add);
+        meterRegistry.counter("chatbot.menu-fuzzy", "result", keywords.size() > 1 ? "corrected" : "none").increment();
+        return keywords;
+    }
+
+    /**
+     * 식단 본문들에서 메뉴 용어(메뉴 항목, 단어, 단어의 2자 이상 앞/뒤 부분)를 뽑습니다.
+     */
+    static Set<String> extractTerms(Collection<String> menus) {
+        Set<String> terms = new HashSet<>();
+        for (String item : countItems(menus).keySet()) {
+            terms.add(item);
+            for (String word : item.split("\\s+")) {
+                if (word.length() < 2) continue;
+                terms.add(word);
+                for (int i = 1; i <= word.length() - 2; i++) {
+                    terms.add(word.substring(i));
+                    terms.add(word.substring(0, word.length() - i));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 식단 본문들에 나온 메뉴 항목별 등장 횟수입니다.
+     * 원산지·알레르기 표시 같은 괄호 안 내용과 [아침] 같은 구분 표시는 제외합니다.
+     */
+    static Map<String, Integer> countItems(Collection<String> menus) {
+        Map<String, Integer> items = new HashMap<>();
+        for (String menu : menus) {
+            if (menu == null) continue;
+            for (String part : ITEM_SEPARATOR.split(menu)) {
+                String item = BULLET.matcher(ANNOTATION.matcher(part).replaceAll(" ")).replaceAll("").strip();
+                if (item.length() < 2 || item.length() > MAX_ITEM_LENGTH || item.contains("없습니다")) continue;
+                items.merge(item, 1, Integer::sum);
+            }
+        }
+        return items;
+    }
+}
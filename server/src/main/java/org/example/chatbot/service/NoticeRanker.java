@@ -0,0 +1,100 @@
+package org.example.chatbot.service;
+
+import org.example.chatbot.util.Bm25Scorer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 공지 검색 결과를 관련도 순으로 정렬해 상위 top-k건만 남깁니다.
+ * 점수 = 제목 BM25 × 최신성 가중치 × 태그 가중치
+ * - 최신성: 1 + recency-weight × 0.5^(경과 일수 / recency-half-life)
+ * - 태그: 제목의 [등록금] 같은 대괄호 태그에 키워드가 들어 있으면 × (1 + tag-boost)
+ * 동의어처럼 키워드가 여러 개면 키워드마다 따로 점수를 매겨 가장 높은 점수를 씁니다.
+ * 키워드가 없으면 최신순으로 정렬합니다. 점수가 같으면 최신 공지가 앞에 옵니다.
+ */
+@Component
+public class NoticeRanker {
+
+    private static final Pattern TAG = Pattern.compile("\\[([^\\]]+)]");
+
+    @Value("${chatbot.notice-ranking.top-k:10}")
+    private int topK;
+
+    @Value("${chatbot.notice-ranking.recency-half-life:30d}")
+    private Duration recencyHalfLife;
+
+    @Value("${chatbot.notice-ranking.recency-weight:0.5}")
+    private double recencyWeight;
+
+    @Value("${chatbot.notice-ranking.tag-boost:0.5}")
+    private double tagBoost;
+
+    public int topK() {
+        return topK;
+    }
+
+    public <T> List<T> top(List<T> notices, String keyword,
+                           Function<T, String> titleOf, Function<T, LocalDate> dateOf) {
+        return top(notices, keyword == null ? List.of() : List.of(keyword), titleOf, dateOf);
+    }
+
+    /**
+     * 키워드(와 그 동의어)마다 제목 BM25 × 태그 가중치를 따로 계산해 가장 높은 값에 최신성 가중치를 곱합니다.
+     * 여러 키워드를 한 질의로 합치면 한 표기만 가진 공지가 모든 표기의 토큰 수만큼 불리해지므로 나눠서 계산합니다.
+     */
+    public <T> List<T> top(List<T> notices, List<String> keywords,
+                           Function<T, String> titleOf, Function<T, LocalDate> dateOf) {
+        if (notices.isEmpty()) return List.of();
+
+        List<String> queries = keywords.stream().filter(keyword -> keyword != null && !keyword.isBlank()).toList();
+        double[] scores = new double[notices.size()];
+        if (!queries.isEmpty()) {
+            List<List<String>> documents = notices.stream().map(notice -> Bm25Scorer.tokenize(titleOf.apply(notice))).toList();
+            for (String keyword : queries) {
+                double[] relevance = Bm25Scorer.score(documents, Bm25Scorer.tokenize(keyword));
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = Math.max(scores[i], relevance[i] * tagFactor(titleOf.apply(notices.get(i)), keyword));
+                }
+            }
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] *= recencyFactor(dateOf.apply(notices.get(i)), today);
+            }
+        }
+
+        Comparator<Integer> order = Comparator.<Integer>comparingDouble(i -> scores[i]).reversed()
+                .thenComparing(i -> dateOf.apply(notices.get(i)), Comparator.nullsLast(Comparator.reverseOrder()));
+        return IntStream.range(0, notices.size()).boxed()
+                .sorted(order)
+                .limit(Math.max(1, topK))
+                .map(notices::get)
+                .toList();
+    }
+
+    private double recencyFactor(LocalDate date, LocalDate today) {
+        if (date == null || recencyHalfLife.isZero()) return 1;
+        long ageDays = Math.max(0, ChronoUnit.DAYS.between(date, today));
+        return 1 + recencyWeight * Math.pow(0.5, (double) ageDays / Math.max(1, recencyHalfLife.toDays()));
+    }
+
+    private double tagFactor(String title, String keyword) {
+        if (title == null) return 1;
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        Matcher matcher = TAG.matcher(title);
+        while (matcher.find()) {
+            if (matcher.group(1).toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+                return 1 + tagBoost;
+            }
+        }
+        return 1;
+    }
+}
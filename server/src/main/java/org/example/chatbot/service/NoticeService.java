@@ -12,10 +12,11 @@ import org.example.chatbot.repository.ScholarshipNoticeRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,29 +27,36 @@ public class NoticeService {
     private final AcademicNoticeRepository academicNoticeRepository;
     private final ScholarshipNoticeRepository scholarshipNoticeRepository;
     private final HankyongNoticeRepository hankyongNoticeRepository;
+    private final ChatReadModel chatReadModel;
+    private final NoticeRanker noticeRanker;
 
     /**
      * 공지사항 검색 (intent + keyword + 날짜 범위)
+     * 날짜 범위와 제목 키워드(대소문자 무시)로 거르며, 읽기 모델이 준비돼 있으면 메모리에서, 아니면 DB에서 조회합니다.
+     * 결과는 관련도(NoticeRanker) 순으로 상위 top-k건만 반환합니다.
      */
     public List<NoticeDto> searchNotices(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
-        keyword = keyword == null ? "" : keyword.toLowerCase(Locale.ROOT);
+        return noticeRanker.top(findNotices(intent, keyword, startDate, endDate), keyword,
+                NoticeDto::getTitle, NoticeService::dateOf);
+    }
+
+    private List<NoticeDto> findNotices(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
 
         List<NoticeDto> result = new ArrayList<>();
 
         switch (intent) {
-            case "학사공지" -> result.addAll(
-                    filterNoticeByDateAndKeyword(academicNoticeRepository.findAll(), keyword, startDate, endDate)
-            );
-            case "장학공지" -> result.addAll(
-                    filterNoticeByDateAndKeyword(scholarshipNoticeRepository.findAll(), keyword, startDate, endDate)
-            );
-            case "한경공지" -> result.addAll(
-                    filterNoticeByDateAndKeyword(hankyongNoticeRepository.findAll(), keyword, startDate, endDate)
-            );
+            case "학사공지", "장학공지", "한경공지" -> {
+                String titleKeyword = hasKeyword ? keyword : null;
+                Optional<ChatReadModel.Snapshot> snapshot = chatReadModel.snapshot();
+                result.addAll(toDtos(snapshot.isPresent()
+                        ? findInSnapshot(snapshot.get(), intent, titleKeyword, startDate, endDate)
+                        : findInDatabase(intent, titleKeyword, startDate, endDate)));
+            }
             case "전체공지" -> {
-                result.addAll(filterNoticeByDateAndKeyword(academicNoticeRepository.findAll(), keyword, startDate, endDate));
-                result.addAll(filterNoticeByDateAndKeyword(scholarshipNoticeRepository.findAll(), keyword, startDate, endDate));
-                result.addAll(filterNoticeByDateAndKeyword(hankyongNoticeRepository.findAll(), keyword, startDate, endDate));
+                result.addAll(findNotices("학사공지", keyword, startDate, endDate));
+                result.addAll(findNotices("장학공지", keyword, startDate, endDate));
+                result.addAll(findNotices("한경공지", keyword, startDate, endDate));
             }
             default -> {
                 log.warn("지원하지 않는 intent: {}", intent);
@@ -59,38 +67,57 @@ public class NoticeService {
         return result;
     }
 
-    /**
-     * 날짜 및 키워드 필터링
-     */
-    private List<NoticeDto> filterNoticeByDateAndKeyword(List<? extends Object> notices,
-                                                         String keyword,
-                                                         LocalDate startDate,
-                                                         LocalDate endDate) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private List<?> findInSnapshot(ChatReadModel.Snapshot data, String intent, String keyword,
+                                   LocalDate startDate, LocalDate endDate) {
+        List<?> notices = switch (intent) {
+            case "학사공지" -> data.academicNotices().between(startDate, endDate);
+            case "장학공지" -> data.scholarshipNotices().between(startDate, endDate);
+            default -> data.hankyongNotices().between(startDate, endDate);
+        };
+        if (keyword == null) return notices;
 
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
         return notices.stream()
-                .map(this::mapToDtoWithDate)
-                .filter(dto -> containsKeyword(dto.getTitle(), keyword))
-                .filter(dto -> {
-                    try {
-                        LocalDate date = LocalDate.parse(dto.getDate(), formatter);
-                        return (date.isEqual(startDate) || date.isAfter(startDate))
-                                && (date.isEqual(endDate) || date.isBefore(endDate));
-                    } catch (Exception e) {
-                        return false;
-                    }
+                .filter(notice -> {
+                    String title = titleOf(notice);
+                    return title != null && title.toLowerCase(Locale.ROOT).contains(lowerKeyword);
                 })
-                .collect(Collectors.toList());
+                .toList();
     }
 
-    /**
-     * 제목에 키워드 포함 여부
-     */
-    private boolean containsKeyword(String title, String keyword) {
-        if (keyword == null || keyword.isBlank()) return true;
-        String lowerTitle = title.toLowerCase(Locale.ROOT);
-        return lowerTitle.contains(keyword)
-                || lowerTitle.contains("[" + keyword + "]");
+    private List<?> findInDatabase(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
+        return switch (intent) {
+            case "학사공지" -> keyword != null
+                    ? academicNoticeRepository.findByNoticeDateBetweenAndTitleContainingIgnoreCase(startDate, endDate, keyword)
+                    : academicNoticeRepository.findByNoticeDateBetween(startDate, endDate);
+            case "장학공지" -> keyword != null
+                    ? scholarshipNoticeRepository.findByNoticeDateBetweenAndTitleContainingIgnoreCase(startDate, endDate, keyword)
+                    : scholarshipNoticeRepository.findByNoticeDateBetween(startDate, endDate);
+            default -> keyword != null
+                    ? hankyongNoticeRepository.findByNoticeDateBetweenAndTitleContainingIgnoreCase(startDate, endDate, keyword)
+                    : hankyongNoticeRepository.findByNoticeDateBetween(startDate, endDate);
+        };
+    }
+
+    private static LocalDate dateOf(NoticeDto notice) {
+        try {
+            return notice.getDate() == null ? null : LocalDate.parse(notice.getDate());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String titleOf(Object notice) {
+        if (notice instanceof AcademicNotice an) return an.getTitle();
+        if (notice instanceof ScholarshipNotice sn) return sn.getTitle();
+        if (notice instanceof HankyongNotice hn) return hn.getTitle();
+        return null;
+    }
+
+    private List<NoticeDto> toDtos(List<?> notices) {
+        return notices.stream()
+                .map(this::mapToDtoWithDate)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -98,11 +125,11 @@ public class NoticeService {
      */
     private NoticeDto mapToDtoWithDate(Object notice) {
         if (notice instanceof AcademicNotice an) {
-            return new NoticeDto("학사공지", an.getTitle(), an.getLink(), an.getNoticeDate());
+            return NoticeDto.from(an);
         } else if (notice instanceof ScholarshipNotice sn) {
-            return new NoticeDto("장학공지", sn.getTitle(), sn.getLink(), sn.getNoticeDate());
+            return NoticeDto.from(sn);
         } else if (notice instanceof HankyongNotice hn) {
-            return new NoticeDto("한경공지", hn.getTitle(), hn.getLink(), hn.getNoticeDate());
+            return NoticeDto.from(hn);
         } else {
             throw new IllegalArgumentException("지원하지 않는 공지 유형입니다: " + notice);
         }
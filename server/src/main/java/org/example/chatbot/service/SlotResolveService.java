@@ -11,6 +11,7 @@ import java.time.LocalDate;
 public class SlotResolveService {
 
     private final ChatSessionService chatSessionService;
+    private final SynonymService synonymService;
 
     public SlotResult resolve(String userId, String userInput, String intent) {
         boolean isCafeteriaIntent = intent != null && (
@@ -23,7 +24,7 @@ public class SlotResolveService {
 
         LocalDate[] parsedDateRange = DateTimeExtractor.extractDateRange(userInput);
         String parsedDate = parsedDateRange != null ? parsedDateRange[0].toString() : null;
-        String parsedCafeteria = extractCafeteria(userInput);
+        String parsedCafeteria = synonymService.cafeteria(userInput);
 
         String lastDate = chatSessionService.getLastDate(userId);
         String lastKeyword = chatSessionService.getLastKeyword(userId);
@@ -36,13 +37,6 @@ public class SlotResolveService {
         return new SlotResult(resolvedDate, resolvedCafeteria);
     }
 
-    private String extractCafeteria(String input) {
-        if (input.contains("학식") || input.contains("학생식당")) return "학생식당";
-        if (input.contains("교식") || input.contains("교직원식당")) return "교직원식당";
-        if (input.contains("기식") || input.contains("기숙사식당")) return "기숙사식당";
-        return null;
-    }
-
     public record SlotResult(String date, String cafeteria) {
         public boolean isComplete() {
             return date != null && cafeteria != null;
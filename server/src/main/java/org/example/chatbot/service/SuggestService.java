@@ -0,0 +1,90 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.domain.*;
+import org.example.chatbot.dto.SuggestionDto;
+import org.example.chatbot.util.DateSortedIndex;
+import org.example.chatbot.util.PrefixTrie;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 자동완성 (GET /api/suggest?q=)
+ * 공지 제목, 학사일정, 세 식당의 메뉴 항목을 하나의 접두어 트라이(ChatReadModel.Snapshot.suggestions)로 색인해 두고,
+ * 입력 중인 접두어로 시작하는 단어가 있는 항목을 제안합니다. 트라이는 읽기 모델이 바뀔 때 함께 다시 만들어집니다.
+ *
+ * 순위: 공지·학사일정은 날짜가 오늘에 가까울수록(반감기 30일), 메뉴는 식단에 자주 나올수록 먼저 제안합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private static final double HALF_LIFE_DAYS = 30;
+    private static final Pattern SCHEDULE_DATE = Pattern.compile("\\d{2}[.\\-]\\d{2}\\s*(\\([^)]*\\))?\\s*~?\\s*");
+
+    private final ChatReadModel chatReadModel;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 읽기 모델이 준비되지 않았으면 빈 목록을 반환합니다. (자동완성은 DB로 조회하지 않음)
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<SuggestionDto> suggestions = chatReadModel.snapshot()
+                .map(data -> data.suggestions().complete(query, Math.min(limit, PrefixTrie.MAX_RESULTS)))
+                .orElse(List.of());
+        sample.stop(Timer.builder("chatbot.suggest.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+        return suggestions;
+    }
+
+    static PrefixTrie<SuggestionDto> build(DateSortedIndex<StudentMeal> studentMeals,
+                                           DateSortedIndex<FacultyMeal> facultyMeals,
+                                           DateSortedIndex<DormMeal> dormMeals,
+                                           DateSortedIndex<AcademicNotice> academicNotices,
+                                           DateSortedIndex<ScholarshipNotice> scholarshipNotices,
+                                           DateSortedIndex<HankyongNotice> hankyongNotices,
+                                           DateSortedIndex<AcademicSchedule> academicSchedules) {
+        LocalDate today = LocalDate.now();
+        Map<SuggestionDto, Double> weights = new HashMap<>();
+
+        academicNotices.all().forEach(notice -> addDated(weights, "학사공지", notice.getTitle(), notice.getNoticeDate(), today));
+        scholarshipNotices.all().forEach(notice -> addDated(weights, "장학공지", notice.getTitle(), notice.getNoticeDate(), today));
+        hankyongNotices.all().forEach(notice -> addDated(weights, "한경공지", notice.getTitle(), notice.getNoticeDate(), today));
+        academicSchedules.all().forEach(schedule -> addDated(weights, "학사일정",
+                schedule.getContent() == null ? null : SCHEDULE_DATE.matcher(schedule.getContent()).replaceAll("").strip(),
+                schedule.getDate(), today));
+
+        addMenus(weights, "학생식당", studentMeals.all().stream().map(StudentMeal::getMenu).toList());
+        addMenus(weights, "교직원식당", facultyMeals.all().stream().map(FacultyMeal::getMenu).toList());
+        addMenus(weights, "기숙사식당", dormMeals.all().stream()
+                .map(meal -> meal.getFormattedMenu() != null ? meal.getFormattedMenu() : meal.getMenu())
+                .toList());
+
+        PrefixTrie.Builder<SuggestionDto> builder = PrefixTrie.builder();
+        weights.forEach((suggestion, weight) -> builder.add(suggestion.text(), suggestion, weight));
+        return builder.build();
+    }
+
+    private static void addDated(Map<SuggestionDto, Double> weights, String type, String text, LocalDate date, LocalDate today) {
+        if (text == null || text.isBlank()) return;
+        double days = date == null ? 365 : Math.abs(ChronoUnit.DAYS.between(date, today));
+        weights.merge(new SuggestionDto(text.strip(), type), Math.pow(0.5, days / HALF_LIFE_DAYS), Math::max);
+    }
+
+    /**
+     * 메뉴 항목은 식당별 최다 등장 횟수 대비 비율을 가중치로 씁니다. (0~1, 공지 가중치와 같은 범위)
+     */
+    private static void addMenus(Map<SuggestionDto, Double> weights, String type, List<String> menus) {
+        Map<String, Integer> counts = MenuKeywordMatcher.countItems(menus);
+        int max = counts.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+        counts.forEach((item, count) -> weights.merge(new SuggestionDto(item, type), (double) count / max, Math::max));
+    }
+}
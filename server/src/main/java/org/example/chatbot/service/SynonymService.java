@@ -0,0 +1,140 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.util.SynonymDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 식당/식사 시간 별칭과 검색 키워드 동의어 사전입니다. (형식은 SynonymDictionary, 기본값은 classpath:synonyms.txt)
+ * path 파일이 있으면 그 파일을 사용하고, reload-interval마다 수정 시각을 확인해 바뀌었으면 다시 컴파일해 교체합니다.
+ * 새 사전 읽기/컴파일에 실패하면 기존 사전을 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SynonymService {
+
+    public static final String CAFETERIA = "cafeteria";
+    public static final String MEAL_TIME = "meal-time";
+    public static final String KEYWORD = "keyword";
+
+    private static final String DEFAULT_DICTIONARY = "synonyms.txt";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<SynonymDictionary> dictionary = new AtomicReference<>(SynonymDictionary.of(List.of()));
+
+    @Value("${chatbot.synonyms.path:data/synonyms.txt}")
+    private String path;
+
+    /**
+     * 마지막으로 읽은 사전 파일의 수정 시각 (기본 사전을 쓰는 중이면 null)
+     */
+    private volatile FileTime loadedModifiedAt;
+
+    @PostConstruct
+    void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("❗ 동의어 사전 로드 실패, 기본 사전으로 시작합니다: {}", e.getMessage());
+            loadedModifiedAt = modifiedAtOf(Path.of(path));
+            try {
+                dictionary.set(SynonymDictionary.parse(defaultLines()));
+            } catch (IOException ex) {
+                log.warn("❗ 기본 동의어 사전 로드 실패: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 입력에 나온 식당 별칭의 식당 이름 (예: "오늘 학식" → 학생식당). 없으면 null.
+     */
+    public String cafeteria(String input) {
+        return dictionary.get().canonical(CAFETERIA, input);
+    }
+
+    /**
+     * 입력에 나온 식사 시간 (예: "건강 메뉴" → 건강한끼). 없으면 null.
+     */
+    public String mealTime(String input) {
+        return dictionary.get().canonical(MEAL_TIME, input);
+    }
+
+    /**
+     * 키워드와 그 동의어 (첫 항목은 keyword 자신). 키워드가 없으면 빈 목록.
+     */
+    public List<String> expandKeyword(String keyword) {
+        return dictionary.get().expand(KEYWORD, keyword);
+    }
+
+    /**
+     * 사전 파일이 바뀌었으면 다시 읽습니다. (실패하면 파일이 다시 바뀔 때까지 기존 사전을 사용)
+     */
+    @Scheduled(fixedDelayString = "${chatbot.synonyms.reload-interval:30s}",
+            initialDelayString = "${chatbot.synonyms.reload-interval:30s}")
+    public void reloadIfChanged() {
+        FileTime modifiedAt = modifiedAtOf(Path.of(path));
+        if (Objects.equals(modifiedAt, loadedModifiedAt)) return;
+        try {
+            reload();
+        } catch (Exception e) {
+            loadedModifiedAt = modifiedAt;
+            meterRegistry.counter("chatbot.synonyms.reload", "result", "error").increment();
+            log.warn("❗ 동의어 사전 갱신 실패, 기존 사전을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * path 파일(없으면 기본 사전)을 읽어 컴파일한 뒤 교체합니다.
+     *
+     * @return 새 사전의 그룹 수
+     */
+    public synchronized int reload() throws IOException {
+        Path file = Path.of(path);
+        FileTime modifiedAt = null;
+        List<String> lines;
+        if (Files.exists(file)) {
+            modifiedAt = Files.getLastModifiedTime(file);
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } else {
+            lines = defaultLines();
+        }
+
+        SynonymDictionary next = SynonymDictionary.parse(lines);
+        dictionary.set(next);
+        loadedModifiedAt = modifiedAt;
+        meterRegistry.counter("chatbot.synonyms.reload", "result", "success").increment();
+        log.info("📖 동의어 사전 로드: {} (groups={})", modifiedAt != null ? file : "classpath:" + DEFAULT_DICTIONARY, next.size());
+        return next.size();
+    }
+
+    private static FileTime modifiedAtOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.getLastModifiedTime(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static List<String> defaultLines() throws IOException {
+        try (InputStream in = new ClassPathResource(DEFAULT_DICTIONARY).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
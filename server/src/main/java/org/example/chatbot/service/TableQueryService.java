@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.example.chatbot.util.DateTimeExtractor.extractScheduleDateRange;
@@ -26,30 +27,87 @@ public class TableQueryService {
     private final HankyongNoticeRepository hankyongNoticeRepository;
     private final ScholarshipNoticeRepository scholarshipNoticeRepository;
 
-    public List<?> findMealDataByIntent(String intent, String keyword) {
+    private final ChatReadModel chatReadModel;
+    private final NoticeRanker noticeRanker;
+    private final MenuKeywordMatcher menuKeywordMatcher;
+    private final SynonymService synonymService;
+
+    private record NoticeRow(String title, LocalDate date, String link) {
+    }
+
+    /**
+     * 요청 기간 [startDate, endDate]의 식단만 가져옵니다. (읽기 모델이 준비돼 있으면 메모리에서, 아니면 DB에서)
+     * 키워드/식사 시간 필터는 "기간 안에 식단은 있지만 해당 메뉴는 없음" 같은 안내를 위해 filterMealByConditions에서 적용합니다.
+     * (교직원식당은 기존과 같이 키워드가 있으면 키워드가 포함된 식단만 가져옵니다.
+     * 메모리 조회 시에는 MenuKeywordMatcher의 오타 보정 후보도 포함하지만, DB 조회 시에는 보정용 메뉴 용어 색인이 없어
+     * 키워드 그대로 LIKE 검색합니다. 읽기 모델이 준비되기 전에는 "돈가스"로 "돈까스"를 찾지 못합니다.)
+     */
+    public List<?> findMealDataByIntent(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
+        Optional<ChatReadModel.Snapshot> snapshot = chatReadModel.snapshot();
+        if (snapshot.isPresent()) {
+            ChatReadModel.Snapshot data = snapshot.get();
+            return switch (intent) {
+                case "학생식당" -> data.studentMeals().between(startDate, endDate);
+                case "교직원식당" -> {
+                    if (!hasKeyword) yield data.facultyMeals().between(startDate, endDate);
+                    List<String> keywords = menuKeywordMatcher.expand(keyword);
+                    yield data.facultyMeals().between(startDate, endDate).stream()
+                            .filter(meal -> keywords.stream().anyMatch(k -> containsIgnoreCase(meal.getMenu(), k)))
+                            .toList();
+                }
+                case "기숙사식당" -> data.dormMeals().between(startDate, endDate);
+                default -> List.of();
+            };
+        }
+
         return switch (intent) {
-            case "학생식당" -> studentMealRepository.findAll();
+            case "학생식당" -> studentMealRepository.findByMealDateBetween(startDate, endDate);
             case "교직원식당" -> hasKeyword
-                    ? facultyMealRepository.findByMenuContaining(keyword)
-                    : facultyMealRepository.findAll();
-            case "기숙사식당" -> dormMealRepository.findAll();
+                    ? facultyMealRepository.findByMealDateBetweenAndMenuContaining(startDate, endDate, keyword)
+                    : facultyMealRepository.findByMealDateBetween(startDate, endDate);
+            case "기숙사식당" -> dormMealRepository.findByMealDateBetween(startDate, endDate);
             default -> List.of();
         };
     }
 
-    public List<?> findNoticeDataByIntent(String intent, String keyword) {
+    /**
+     * 키워드가 있으면 제목으로 검색하고(기간 밖의 같은 키워드 공지는 "다른 날짜" 안내에 사용), 없으면 요청 기간의 공지만 가져옵니다.
+     * 키워드는 동의어 사전으로 확장해 각 표기로 검색한 결과를 합칩니다. (예: 졸업 → 졸업, 학위수여)
+     * 읽기 모델이 준비돼 있으면 제목 검색은 LIKE 전체 스캔 대신 bigram 역색인으로 처리합니다.
+     * 학사일정은 기간이 본문에 들어 있어 전체를 가져와 filterAcademicScheduleByConditions에서 거릅니다.
+     */
+    public List<?> findNoticeDataByIntent(String intent, String keyword, LocalDate startDate, LocalDate endDate) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
+        List<String> keywords = synonymService.expandKeyword(keyword);
+        Optional<ChatReadModel.Snapshot> snapshot = chatReadModel.snapshot();
+        if (snapshot.isPresent()) {
+            ChatReadModel.Snapshot data = snapshot.get();
+            return switch (intent) {
+                case "학사공지" -> hasKeyword
+                        ? searchAll(keywords, data.academicNoticeTitles()::search)
+                        : data.academicNotices().between(startDate, endDate);
+                case "장학공지" -> hasKeyword
+                        ? searchAll(keywords, data.scholarshipNoticeTitles()::search)
+                        : data.scholarshipNotices().between(startDate, endDate);
+                case "한경공지" -> hasKeyword
+                        ? searchAll(keywords, data.hankyongNoticeTitles()::search)
+                        : data.hankyongNotices().between(startDate, endDate);
+                case "학사일정" -> data.academicSchedules().all();
+                default -> List.of();
+            };
+        }
+
         return switch (intent) {
             case "학사공지" -> hasKeyword
-                    ? academicNoticeRepository.findByTitleContaining(keyword)
-                    : academicNoticeRepository.findAll();
+                    ? searchAll(keywords, academicNoticeRepository::findByTitleContaining)
+                    : academicNoticeRepository.findByNoticeDateBetween(startDate, endDate);
             case "장학공지" -> hasKeyword
-                    ? scholarshipNoticeRepository.findByTitleContaining(keyword)
-                    : scholarshipNoticeRepository.findAll();
+                    ? searchAll(keywords, scholarshipNoticeRepository::findByTitleContaining)
+                    : scholarshipNoticeRepository.findByNoticeDateBetween(startDate, endDate);
             case "한경공지" -> hasKeyword
-                    ? hankyongNoticeRepository.findByTitleContaining(keyword)
-                    : hankyongNoticeRepository.findAll();
+                    ? searchAll(keywords, hankyongNoticeRepository::findByTitleContaining)
+                    : hankyongNoticeRepository.findByNoticeDateBetween(startDate, endDate);
             case "학사일정" -> academicScheduleRepository.findAll();
             default -> List.of();
         };
@@ -61,6 +119,8 @@ public class TableQueryService {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
         boolean keywordFound = false;
         boolean foundDateInRange = false;
+        // 키워드와 오타 보정 후보 (예: "돈가스" → ["돈가스", "돈까스"])
+        List<String> keywords = menuKeywordMatcher.expand(keyword);
 
         Map<String, List<String>> groupedMenus = new LinkedHashMap<>();
 
@@ -71,10 +131,10 @@ public class TableQueryService {
 
             if (data instanceof DormMeal meal) {
                 menu = meal.getFormattedMenu() != null ? meal.getFormattedMenu() : meal.getMenu();
-                dateStr = meal.getMealDate();
-                if (dateStr == null || dateStr.isBlank() || menu == null || menu.isBlank()) continue;
+                LocalDate mealDate = meal.getMealDate();
+                if (mealDate == null || menu == null || menu.isBlank()) continue;
 
-                LocalDate mealDate = LocalDate.parse(dateStr);
+                dateStr = mealDate.toString();
                 if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
                     foundDateInRange = true;
 
@@ -83,8 +143,8 @@ public class TableQueryService {
                             : menu;
 
                     if (extractedMenu == null || extractedMenu.isBlank()) continue;
-                    if (hasKeyword && extractedMenu.contains(keyword)) keywordFound = true;
-                    else if (hasKeyword && !extractedMenu.contains(keyword)) continue;
+                    if (hasKeyword && containsAny(extractedMenu, keywords)) keywordFound = true;
+                    else if (hasKeyword) continue;
 
                     String formatted = (mealTime != null)
                             ? String.format("[%s]\n%s", mealTime, extractedMenu)
@@ -96,11 +156,11 @@ public class TableQueryService {
 
             else if (data instanceof StudentMeal meal) {
                 menu = meal.getMenu();
-                dateStr = meal.getMealDate();
+                LocalDate mealDate = meal.getMealDate();
                 String studentMealTime = meal.getMealTime();
-                if (menu == null || dateStr == null || studentMealTime == null) continue;
+                if (menu == null || mealDate == null || studentMealTime == null) continue;
 
-                LocalDate mealDate = LocalDate.parse(dateStr);
+                dateStr = mealDate.toString();
                 if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
                     foundDateInRange = true;
 
@@ -113,7 +173,7 @@ public class TableQueryService {
 
                     boolean skipKeywordCheck = "학생식당".equals(intent) && mealTime != null && !mealTime.equals("점심");
 
-                    if (hasKeyword && !skipKeywordCheck && !menu.contains(keyword)) continue;
+                    if (hasKeyword && !skipKeywordCheck && !containsAny(menu, keywords)) continue;
                     if (hasKeyword) keywordFound = true;
 
                     String formatted = String.format("[%s] %s\n%s", timeLabel, timeRange,
@@ -125,11 +185,11 @@ public class TableQueryService {
 
             else if (data instanceof FacultyMeal meal) {
                 menu = meal.getMenu();
-                dateStr = meal.getMealDate();
+                LocalDate mealDate = meal.getMealDate();
                 String facultyMealTime = meal.getMealTime();
-                if (menu == null || dateStr == null || facultyMealTime == null) continue;
+                if (menu == null || mealDate == null || facultyMealTime == null) continue;
 
-                LocalDate mealDate = LocalDate.parse(dateStr);
+                dateStr = mealDate.toString();
                 if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
                     foundDateInRange = true;
 
@@ -137,7 +197,7 @@ public class TableQueryService {
                     String timeRange = extractTimeRange(facultyMealTime);
 
                     if (mealTime != null && !mealTime.equals(timeLabel)) continue;
-                    if (hasKeyword && !menu.contains(keyword)) continue;
+                    if (hasKeyword && !containsAny(menu, keywords)) continue;
                     if (hasKeyword) keywordFound = true;
 
                     String formatted = String.format("[%s] %s\n%s", timeLabel, timeRange,
@@ -202,66 +262,80 @@ public class TableQueryService {
     public String filterNoticeByConditions(String keyword, LocalDate startDate, LocalDate endDate,
                                            boolean dateFilterApplied, List<?> dataList) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
-        Set<String> matchedNotices = new LinkedHashSet<>();
-        Set<String> fallbackNotices = new LinkedHashSet<>();
+        List<String> keywords = synonymService.expandKeyword(keyword);
+        Set<NoticeRow> matchedNotices = new LinkedHashSet<>();
+        Set<NoticeRow> fallbackNotices = new LinkedHashSet<>();
         boolean foundDateInRange = false;
         int currentYear = LocalDate.now().getYear();
 
         for (Object data : dataList) {
-            String title = null, dateStr = null, link = null;
+            String title = null, link = null;
+            LocalDate noticeDate = null;
 
             if (data instanceof AcademicNotice notice) {
                 title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
+                noticeDate = notice.getNoticeDate();
                 link = notice.getLink();
             } else if (data instanceof ScholarshipNotice notice) {
                 title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
+                noticeDate = notice.getNoticeDate();
                 link = notice.getLink();
             } else if (data instanceof HankyongNotice notice) {
                 title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
+                noticeDate = notice.getNoticeDate();
                 link = notice.getLink();
             } else continue;
 
-            if (dateStr == null || dateStr.isBlank()) continue;
-            LocalDate noticeDate = LocalDate.parse(dateStr);
+            if (noticeDate == null) continue;
 
             if (!noticeDate.isBefore(startDate) && !noticeDate.isAfter(endDate)) {
                 foundDateInRange = true;
 
                 if (!hasKeyword) {
-                    matchedNotices.add(String.format("[%s] %s (%s)", noticeDate, title, link));
-                } else if (title != null) {
-                    if (title.contains("[" + keyword + "]") || title.contains(keyword)) {
-                        matchedNotices.add(String.format("[%s] %s (%s)", noticeDate, title, link));
-                    }
+                    matchedNotices.add(new NoticeRow(title, noticeDate, link));
+                } else if (containsAny(title, keywords)) {
+                    matchedNotices.add(new NoticeRow(title, noticeDate, link));
                 }
             } else {
                 boolean isThisYear = noticeDate.getYear() == currentYear;
-                if (hasKeyword && isThisYear && title != null) {
-                    if (title.contains("[" + keyword + "]") || title.contains(keyword)) {
-                        fallbackNotices.add(String.format("[다른 날짜 %s] %s (%s)", dateStr, title, link));
-                    }
+                if (hasKeyword && isThisYear && containsAny(title, keywords)) {
+                    fallbackNotices.add(new NoticeRow(title, noticeDate, link));
                 }
             }
         }
 
         if (!matchedNotices.isEmpty()) {
-            return String.join("\n", matchedNotices);
+            return formatRankedNotices(matchedNotices, keywords, "");
         }
 
         if (!fallbackNotices.isEmpty()) {
             String header = "요청하신 날짜에는 관련 공지사항이 없지만, 다른 날짜에 관련 내용이 있습니다.\n";
-            return header + String.join("\n", fallbackNotices);
+            return header + formatRankedNotices(fallbackNotices, keywords, "다른 날짜 ");
         }
 
         return "요청하신 날짜에 대한 공지사항을 찾을 수 없습니다.";
     }
 
+    /**
+     * 관련도(BM25 + 최신성 + 태그) 순으로 상위 top-k건만 문자열로 만듭니다. 잘린 건수는 마지막 줄에 안내합니다.
+     */
+    private String formatRankedNotices(Collection<NoticeRow> notices, List<String> keywords, String datePrefix) {
+        List<NoticeRow> ranked = noticeRanker.top(List.copyOf(notices), keywords, NoticeRow::title, NoticeRow::date);
+        StringBuilder sb = new StringBuilder();
+        for (NoticeRow notice : ranked) {
+            if (!sb.isEmpty()) sb.append("\n");
+            sb.append(String.format("[%s%s] %s (%s)", datePrefix, notice.date(), notice.title(), notice.link()));
+        }
+        if (notices.size() > ranked.size()) {
+            sb.append(String.format("\n(관련 공지 %d건 중 상위 %d건)", notices.size(), ranked.size()));
+        }
+        return sb.toString();
+    }
+
     public String filterAcademicScheduleByConditions(String keyword, LocalDate startDate, LocalDate endDate,
                                                      boolean dateFilterApplied, List<?> dataList) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
+        List<String> keywords = synonymService.expandKeyword(keyword);
         Set<String> matchedSchedules = new LinkedHashSet<>();
         boolean foundDateInRange = false;
 
@@ -280,7 +354,7 @@ public class TableQueryService {
             String content = schedule.getContent();
             if (content == null || content.isBlank()) continue;
 
-            if (hasKeyword && !content.contains(keyword)) continue;
+            if (hasKeyword && !containsAny(content, keywords)) continue;
 
             LocalDate[] scheduleRange = extractScheduleDateRange(content, baseYear);
             if (scheduleRange == null) continue;
@@ -306,7 +380,7 @@ public class TableQueryService {
                 String content = schedule.getContent();
                 if (content == null || content.isBlank()) continue;
 
-                if (!content.toLowerCase().contains(keyword.toLowerCase())) continue;
+                if (keywords.stream().noneMatch(k -> containsIgnoreCase(content, k))) continue;
 
                 LocalDate[] scheduleRange = extractScheduleDateRange(content, LocalDate.now().getYear());
                 if (scheduleRange == null) continue;
@@ -344,7 +418,10 @@ public class TableQueryService {
     }
 
     public String findKeywordInOtherDates(String keyword, LocalDate startDate, LocalDate endDate) {
-        List<AcademicSchedule> schedules = academicScheduleRepository.findByContentContaining(keyword);
+        List<String> keywords = synonymService.expandKeyword(keyword);
+        List<AcademicSchedule> schedules = chatReadModel.snapshot()
+                .map(data -> searchAll(keywords, data.academicScheduleContents()::search))
+                .orElseGet(() -> searchAll(keywords, academicScheduleRepository::findByContentContaining));
         int currentYear = LocalDate.now().getYear();
         List<String> otherMatches = new ArrayList<>();
 
@@ -375,6 +452,36 @@ public class TableQueryService {
         return String.format("다른 기간에 '%s' 키워드와 관련된 일정이 있어요:\n\n%s", keyword, String.join("\n\n", otherMatches));
     }
 
+    /**
+     * 동의어별 검색 결과를 중복 없이 합칩니다. (동의어가 없으면 keyword 한 번만 검색)
+     */
+    private static <T> List<T> searchAll(List<String> keywords, Function<String, List<T>> search) {
+        if (keywords.size() == 1) return search.apply(keywords.get(0));
+        Set<T> results = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            results.addAll(search.apply(keyword));
+        }
+        return List.copyOf(results);
+    }
+
+    /**
+     * text에 keywords(키워드와 동의어/오타 보정 후보) 중 하나라도 들어 있는지 확인합니다.
+     */
+    private static boolean containsAny(String text, List<String> keywords) {
+        if (text == null) return false;
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * DB의 LIKE 검색(대소문자 구분 없는 collation)과 같은 결과를 내도록 대소문자를 무시하고 비교합니다.
+     */
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+    }
+
     private String extractTimeLabel(String mealTime) {
         int idx = mealTime.indexOf('(');
         return idx != -1 ? mealTime.substring(0, idx).trim() : mealTime.trim();
@@ -0,0 +1,127 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 여러 패턴을 한 번의 스캔으로 찾는 Aho-Corasick 오토마타입니다.
+ * 패턴 사전은 생성 시점에 컴파일되며, 이후 검색은 입력 길이에 비례하는 시간에 끝납니다.
+ * 생성 이후에는 불변이므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ *
+ * @param <V> 패턴에 연결된 값 타입
+ */
+public final class AhoCorasickMatcher<V> {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<Match<V>>> outputs = new ArrayList<>();
+    private final int[] failure;
+
+    private AhoCorasickMatcher(Map<String, V> patterns) {
+        newState();
+        for (Map.Entry<String, V> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern == null || pattern.isEmpty()) continue;
+
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = newState();
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(new Match<>(0, pattern.length(), pattern, entry.getValue()));
+        }
+
+        failure = new int[transitions.size()];
+        buildFailureLinks();
+    }
+
+    /**
+     * 패턴 → 값 사전으로 매처를 생성합니다.
+     */
+    public static <V> AhoCorasickMatcher<V> compile(Map<String, V> patterns) {
+        return new AhoCorasickMatcher<>(patterns);
+    }
+
+    /**
+     * 입력에 등장하는 모든 패턴을 (겹치는 것 포함) 등장 순서대로 반환합니다.
+     */
+    public List<Match<V>> findAll(CharSequence text) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (text == null) return matches;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (Match<V> out : outputs.get(state)) {
+                int end = i + 1;
+                matches.add(new Match<>(end - out.pattern().length(), end, out.pattern(), out.value()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 겹치는 매치 중 가장 앞에서 시작하는 가장 긴 패턴만 남깁니다. (예: "학사일정" 안의 "일정"은 제외)
+     */
+    public List<Match<V>> findLongestNonOverlapping(CharSequence text) {
+        List<Match<V>> all = findAll(text);
+        all.sort(Comparator.comparingInt((Match<V> m) -> m.start())
+                .thenComparing(Comparator.comparingInt((Match<V> m) -> m.end()).reversed()));
+
+        List<Match<V>> selected = new ArrayList<>();
+        int coveredUntil = 0;
+        for (Match<V> match : all) {
+            if (match.start() < coveredUntil) continue;
+            selected.add(match);
+            coveredUntil = match.end();
+        }
+        return selected;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            Integer next = transitions.get(state).get(c);
+            if (next != null) return next;
+            if (state == 0) return 0;
+            state = failure[state];
+        }
+    }
+
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                failure[child] = (target != null && target != child) ? target : 0;
+                outputs.get(child).addAll(outputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * 매치 결과 (start 포함, end 미포함)
+     */
+    public record Match<V>(int start, int end, String pattern, V value) {
+    }
+}
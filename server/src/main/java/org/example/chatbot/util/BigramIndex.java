@@ -0,0 +1,148 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 문자 단위 1-gram/2-gram 역색인입니다. 공지 제목·학사일정 본문에서 키워드를 포함한 행을 찾는
+ * LIKE '%키워드%' 전체 스캔을 대신합니다.
+ * 한글은 형태소 분석 없이도 음절 bigram으로 부분 문자열 검색 후보를 충분히 좁힐 수 있어 음절(char) 단위로 색인하고,
+ * 후보는 실제 포함 여부(대소문자 무시)를 다시 확인하므로 결과는 String.contains와 같습니다.
+ * 불변 객체이며, plus()는 기존 색인을 건드리지 않고 행을 덧붙인 새 색인을 만듭니다.
+ */
+public final class BigramIndex<T> {
+
+    private final List<T> documents;
+    private final String[] texts;
+    private final Function<T, String> textOf;
+
+    /**
+     * gram 키 → 해당 gram을 포함한 문서 번호(오름차순). 키는 bigram이면 (앞 문자 << 16 | 뒤 문자), 1-gram이면 문자 값입니다.
+     */
+    private final Map<Integer, int[]> postings;
+
+    private BigramIndex(List<T> documents, String[] texts, Function<T, String> textOf, Map<Integer, int[]> postings) {
+        this.documents = documents;
+        this.texts = texts;
+        this.textOf = textOf;
+        this.postings = postings;
+    }
+
+    public static <T> BigramIndex<T> of(List<T> documents, Function<T, String> textOf) {
+        return new BigramIndex<T>(List.of(), new String[0], textOf, Map.of()).plus(documents);
+    }
+
+    /**
+     * rows가 이 색인의 문서 목록 뒤에 행을 덧붙인 것이면(같은 객체로 시작) 덧붙인 행만 색인하고, 아니면 새로 만듭니다.
+     */
+    public static <T> BigramIndex<T> sync(BigramIndex<T> previous, List<T> rows, Function<T, String> textOf) {
+        if (previous == null || !previous.isPrefixOf(rows)) {
+            return of(rows, textOf);
+        }
+        return previous.plus(rows.subList(previous.size(), rows.size()));
+    }
+
+    public BigramIndex<T> plus(List<T> added) {
+        if (added.isEmpty()) return this;
+
+        int base = documents.size();
+        String[] nextTexts = Arrays.copyOf(texts, base + added.size());
+        Map<Integer, List<Integer>> addedPostings = new HashMap<>();
+        for (int i = 0; i < added.size(); i++) {
+            String text = normalize(textOf.apply(added.get(i)));
+            nextTexts[base + i] = text;
+            for (int key : grams(text, false)) {
+                addedPostings.computeIfAbsent(key, k -> new ArrayList<>()).add(base + i);
+            }
+        }
+
+        Map<Integer, int[]> nextPostings = new HashMap<>(postings);
+        addedPostings.forEach((key, positions) -> {
+            int[] previous = nextPostings.getOrDefault(key, new int[0]);
+            int[] merged = Arrays.copyOf(previous, previous.length + positions.size());
+            for (int i = 0; i < positions.size(); i++) {
+                merged[previous.length + i] = positions.get(i);
+            }
+            nextPostings.put(key, merged);
+        });
+
+        List<T> nextDocuments = new ArrayList<>(base + added.size());
+        nextDocuments.addAll(documents);
+        nextDocuments.addAll(added);
+        return new BigramIndex<>(Collections.unmodifiableList(nextDocuments), nextTexts, textOf, nextPostings);
+    }
+
+    /**
+     * keyword를 포함한(대소문자 무시) 문서를 색인 순서대로 반환합니다.
+     * 2자 이상이면 bigram 목록의 교집합, 1자면 1-gram 목록을 후보로 쓰고 실제 포함 여부를 확인합니다.
+     */
+    public List<T> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) return documents;
+
+        int[] keys = grams(query, true);
+        int[][] lists = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = postings.get(keys[i]);
+            if (lists[i] == null) return List.of();
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        List<T> result = new ArrayList<>();
+        for (int position : candidates) {
+            if (texts[position].contains(query)) {
+                result.add(documents.get(position));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private boolean isPrefixOf(List<T> rows) {
+        if (rows.size() < documents.size()) return false;
+        if (documents.isEmpty()) return true;
+        int last = documents.size() - 1;
+        return rows.get(0) == documents.get(0) && rows.get(last) == documents.get(last);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문서는 1-gram과 bigram을 모두, 검색어는 2자 이상이면 bigram만(더 선택적) 중복 없이 반환합니다.
+     */
+    private static int[] grams(String text, boolean query) {
+        Set<Integer> keys = new LinkedHashSet<>();
+        boolean unigrams = !query || text.length() == 1;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (unigrams) keys.add((int) current);
+            if (i + 1 < text.length()) keys.add(current << 16 | text.charAt(i + 1));
+        }
+        return keys.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) i++;
+            else if (left[i] > right[j]) j++;
+            else {
+                result[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+}
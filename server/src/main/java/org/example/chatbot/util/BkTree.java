@@ -0,0 +1,109 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 자모 편집 거리(Levenshtein) 기반 BK-tree입니다.
+ * 각 노드의 자식을 부모와의 거리로 나눠 두어, 검색어와 거리 d인 노드에서는 거리 [d - k, d + k]의 자식만 내려가면 되므로
+ * 거리 k 이내의 용어를 전체 비교 없이 찾습니다. 생성 후에는 바뀌지 않아 여러 스레드에서 함께 읽을 수 있습니다.
+ */
+public final class BkTree {
+
+    public record Match(String term, int distance) {
+    }
+
+    private static final class Node {
+        private final String term;
+        private final String key;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String term, String key) {
+            this.term = term;
+            this.key = key;
+        }
+    }
+
+    private final Node root;
+    private final int size;
+
+    private BkTree(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static BkTree of(Collection<String> terms) {
+        Node root = null;
+        int size = 0;
+        for (String term : new LinkedHashSet<>(terms)) {
+            String key = HangulJamo.decompose(term);
+            if (root == null) {
+                root = new Node(term, key);
+                size++;
+                continue;
+            }
+
+            Node node = root;
+            while (true) {
+                int distance = distance(key, node.key);
+                if (distance == 0) break;
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(term, key));
+                    size++;
+                    break;
+                }
+                node = child;
+            }
+        }
+        return new BkTree(root, size);
+    }
+
+    /**
+     * query와 자모 편집 거리가 maxDistance 이하인 용어를 거리순으로 반환합니다.
+     */
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null || query == null) return matches;
+
+        String key = HangulJamo.decompose(query);
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = distance(key, node.key);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::term));
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.chatbot.util;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 짧은 문서(공지 제목 등)용 Okapi BM25 점수 계산기입니다.
+ * 토큰은 공백/문장부호로 나눈 단어와, 단어 안의 문자 bigram입니다.
+ * 한국어 제목은 "2학기수강신청안내"처럼 붙여 쓰는 경우가 많아, 형태소 분석 없이도 "수강신청"이 부분적으로 맞도록 bigram을 함께 씁니다.
+ * 문서 빈도(IDF)와 평균 길이는 점수를 매길 문서 집합에서 계산합니다.
+ */
+public final class Bm25Scorer {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private Bm25Scorer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : SEPARATOR.split(normalized)) {
+            if (word.isEmpty()) continue;
+            tokens.add(word);
+            for (int i = 0; i + 2 <= word.length() && word.length() > 2; i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * @return documents와 같은 순서의 BM25 점수 (query 토큰이 하나도 없는 문서는 0)
+     */
+    public static double[] score(List<List<String>> documents, List<String> query) {
+        double[] scores = new double[documents.size()];
+        if (documents.isEmpty() || query.isEmpty()) return scores;
+
+        List<Map<String, Integer>> frequencies = new ArrayList<>(documents.size());
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        long totalLength = 0;
+        for (List<String> document : documents) {
+            Map<String, Integer> tf = new HashMap<>();
+            for (String token : document) {
+                tf.merge(token, 1, Integer::sum);
+            }
+            tf.keySet().forEach(token -> documentFrequency.merge(token, 1, Integer::sum));
+            frequencies.add(tf);
+            totalLength += document.size();
+        }
+
+        int n = documents.size();
+        double averageLength = Math.max(1.0, (double) totalLength / n);
+        Set<String> queryTokens = new LinkedHashSet<>(query);
+
+        for (int d = 0; d < n; d++) {
+            Map<String, Integer> tf = frequencies.get(d);
+            double lengthNorm = K1 * (1 - B + B * documents.get(d).size() / averageLength);
+            double score = 0;
+            for (String token : queryTokens) {
+                Integer f = tf.get(token);
+                if (f == null) continue;
+                int df = documentFrequency.get(token);
+                // BM25+ 형태의 IDF: 모든 문서에 있는 토큰도 음수가 되지 않도록 1을 더함
+                double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                score += idf * f * (K1 + 1) / (f + lengthNorm);
+            }
+            scores[d] = score;
+        }
+        return scores;
+    }
+}
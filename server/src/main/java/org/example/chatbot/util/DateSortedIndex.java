@@ -0,0 +1,75 @@
+package org.example.chatbot.util;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 행을 날짜별로 묶어 정렬해 둔 불변 색인입니다.
+ * 기간 조회는 TreeMap.subMap으로 O(log n + 결과 수)에 끝나며, 생성 후에는 바뀌지 않으므로
+ * 잠금 없이 여러 스레드에서 함께 읽을 수 있습니다. 날짜가 없는 행은 기간 조회에서 제외되고 all()/filter()에만 포함됩니다.
+ */
+public final class DateSortedIndex<T> {
+
+    private final NavigableMap<LocalDate, List<T>> byDate;
+    private final List<T> all;
+    private final Function<T, LocalDate> dateOf;
+
+    private DateSortedIndex(NavigableMap<LocalDate, List<T>> byDate, List<T> all, Function<T, LocalDate> dateOf) {
+        this.byDate = byDate;
+        this.all = all;
+        this.dateOf = dateOf;
+    }
+
+    public static <T> DateSortedIndex<T> of(Collection<T> rows, Function<T, LocalDate> dateOf) {
+        return new DateSortedIndex<T>(Collections.emptyNavigableMap(), List.of(), dateOf).plus(rows);
+    }
+
+    /**
+     * 행을 덧붙인 새 색인을 만듭니다. 기존 색인은 바뀌지 않으며, 새 행이 없는 날짜의 목록은 그대로 공유합니다.
+     */
+    public DateSortedIndex<T> plus(Collection<T> added) {
+        if (added.isEmpty()) return this;
+
+        NavigableMap<LocalDate, List<T>> nextByDate = new TreeMap<>(byDate);
+        Map<LocalDate, List<T>> addedByDate = new HashMap<>();
+        for (T row : added) {
+            LocalDate date = dateOf.apply(row);
+            if (date != null) {
+                addedByDate.computeIfAbsent(date, d -> new ArrayList<>(nextByDate.getOrDefault(d, List.of()))).add(row);
+            }
+        }
+        addedByDate.forEach((date, list) -> nextByDate.put(date, List.copyOf(list)));
+
+        List<T> nextAll = new ArrayList<>(all.size() + added.size());
+        nextAll.addAll(all);
+        nextAll.addAll(added);
+        return new DateSortedIndex<>(Collections.unmodifiableNavigableMap(nextByDate), Collections.unmodifiableList(nextAll), dateOf);
+    }
+
+    /**
+     * [startDate, endDate] (양 끝 포함) 기간의 행을 날짜순으로 반환합니다.
+     */
+    public List<T> between(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) return List.of();
+
+        List<T> result = new ArrayList<>();
+        for (List<T> rows : byDate.subMap(startDate, true, endDate, true).values()) {
+            result.addAll(rows);
+        }
+        return result;
+    }
+
+    public List<T> filter(Predicate<T> condition) {
+        return all.stream().filter(condition).toList();
+    }
+
+    public List<T> all() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.chatbot.util;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -101,15 +102,6 @@ public class DateTimeExtractor {
         return new LocalDate[]{today, today};
     }
 
-    public static String extractMealTime(String userInput) {
-        if (userInput.contains("맛난")) return "맛난한끼";
-        if (userInput.contains("건강")) return "건강한끼";
-        if (userInput.contains("아침")) return "아침";
-        if (userInput.contains("점심")) return "점심";
-        if (userInput.contains("저녁")) return "저녁";
-        return null;
-    }
-
     public static LocalDate[] extractScheduleDateRange(String content, int year) {
         Pattern pattern = Pattern.compile("(\\d{2}\\.\\d{2})\\s*\\([^)]+\\)\\s*~\\s*(\\d{2}[\\.\\-]\\d{2})");
         Matcher matcher = pattern.matcher(content);
@@ -140,6 +132,35 @@ public class DateTimeExtractor {
         return null;
     }
 
+    /**
+     * 검색 API의 date 파라미터(yyyy, yyyy-MM, yyyy-MM-dd / 구분자 '-' 또는 '.')를 날짜 범위로 바꿉니다.
+     * 예전 문자열 부분 일치 검색과 같은 결과를 DATE 컬럼 범위 조회로 얻기 위해 사용합니다.
+     *
+     * @return {시작, 종료} (모두 포함), 형식이 맞지 않으면 null
+     */
+    public static LocalDate[] parseDatePrefix(String date) {
+        if (date == null) return null;
+        Matcher matcher = Pattern.compile("(\\d{4})(?:[\\.\\-](\\d{1,2})(?:[\\.\\-](\\d{1,2}))?)?").matcher(date.trim());
+        if (!matcher.matches()) return null;
+
+        try {
+            int year = Integer.parseInt(matcher.group(1));
+            if (matcher.group(2) == null) {
+                return new LocalDate[]{LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)};
+            }
+            int month = Integer.parseInt(matcher.group(2));
+            if (matcher.group(3) == null) {
+                LocalDate start = LocalDate.of(year, month, 1);
+                return new LocalDate[]{start, start.withDayOfMonth(start.lengthOfMonth())};
+            }
+            LocalDate day = LocalDate.of(year, month, Integer.parseInt(matcher.group(3)));
+            return new LocalDate[]{day, day};
+        } catch (DateTimeException e) {
+            log.warn("[parseDatePrefix] 날짜 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public static boolean containsDateKeyword(String input) {
         if (input == null || input.isBlank()) return false;
         return input.matches(".*(오늘|내일|모레|어제|이번주|이번 주|다음주|다음 주|지난주|저번주|이번달|이번 달|다음달|다음 달|지난달|저번달).*");
@@ -0,0 +1,29 @@
+package org.example.chatbot.util;
+
+import java.time.Duration;
+
+/**
+ * 한 요청이 쓸 수 있는 남은 시간 예산입니다.
+ * 정제 → 분류 → fallback 답변처럼 여러 단계가 이어질 때 같은 인스턴스를 넘겨 전체 소요 시간을 제한합니다.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public Duration remaining() {
+        long remaining = deadlineNanos - System.nanoTime();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
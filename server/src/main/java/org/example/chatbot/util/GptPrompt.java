@@ -0,0 +1,22 @@
+package org.example.chatbot.util;
+
+import org.example.chatbot.dto.ChatMessageDto;
+
+import java.util.List;
+
+/**
+ * system 메시지(고정 지시문)와 user 메시지(사용자 입력)로 나눈 GPT 프롬프트입니다.
+ * 고정 지시문이 항상 맨 앞에 같은 내용으로 오기 때문에 OpenAI 프롬프트 캐시(prefix caching)가 적용됩니다.
+ *
+ * @param systemTokens system 메시지의 추정 토큰 수 (템플릿별로 미리 계산된 값)
+ */
+public record GptPrompt(String system, String user, int systemTokens) {
+
+    public List<ChatMessageDto> messages() {
+        return List.of(ChatMessageDto.system(system), ChatMessageDto.user(user));
+    }
+
+    public int estimatedTokens() {
+        return systemTokens + TokenEstimator.estimate(user);
+    }
+}
@@ -1,16 +1,50 @@
 package org.example.chatbot.util;
 
+import java.util.List;
+import java.util.Map;
+
 /**
- * GPT에게 전달할 프롬프트 문자열을 생성하는 유틸리티 클래스입니다.
+ * GPT에게 전달할 프롬프트를 생성하는 유틸리티 클래스입니다.
  * 사용자 입력을 먼저 정제한 뒤, intent 및 keyword를 추출하기 위한 프롬프트를 단계별로 생성합니다.
+ * 고정 지시문은 system 메시지로, 사용자 입력은 user 메시지로만 보내 OpenAI 프롬프트 캐시가 적용되도록 합니다.
  */
 public class GptPromptBuilder {
 
     /**
-     * 1단계: 사용자 입력을 구어체/비속어 등에서 정제된 한국어 문장으로 바꾸는 프롬프트
+     * 분류 프롬프트에 안내하는 공지 키워드 목록 (로컬 규칙 엔진에서도 같은 어휘를 사용)
+     */
+    public static final List<String> NOTICE_KEYWORDS = List.of(
+            "휴학", "등록금", "졸업", "학위수여", "수강신청", "시험", "축제", "개강", "종강", "계절수업", "등록기간",
+            "전과", "체육대회", "수강철회", "수업일수", "장바구니", "OT", "교외장학금", "국가근로", "한국장학재단", "국가보훈부"
+    );
+
+    /**
+     * intent/keyword 추출 규칙 (2단계 분류 프롬프트와 one-shot 프롬프트에서 공통으로 사용)
+     */
+    private static final String CLASSIFY_RULES = """
+        1. intent: 다음 목록 중 하나로만 반환해.
+        - intent는 학사공지, 학사일정, 학생식당, 기숙사식당, 교직원식당, 한경공지, 장학공지, 식당 미지정, 전체공지, 없음 으로만
+        - intent는 반드시 위 목록 중 하나로만 반환하고, 다른 단어나 문장을 절대 포함하지 마.
+        
+            📌 intent 분류 규칙:
+                - "전체", "모든", "전부", "다" + "공지"가 함께 포함된 경우 반드시 '전체공지'로 분류
+                - “공지” 또는 “공지사항”이라는 단어가 포함되어 있다면 반드시 공지(intent = 학사공지/장학공지/한경공지/전체공지 중 하나)로 분류하라.
+                - "오늘 전체 공지", "이번주 전체 공지", "전체공지 알려줘" 등은 전부 intent='전체공지'
+                - 질문에 식당명(학생식당, 기숙사식당, 교직원식당)이 포함되면 intent는 반드시 해당 식당명으로 지정해야 해.
+                - 질문에 '일정'이라는 단어가 포함되어 있으면 intent는 무조건 '학사일정'으로 지정해야 해.
+                - 질문이 음식이나 식단에 대한 내용인데 식당명이 없다면 '식당 미지정'으로 지정해.
+                - 공지 종류가 불명확하면 '없음'으로 지정해.
+
+        2. keyword: 아래 항목 중 있으면 간단히 추출. 없으면 null
+        - keyword는 intent와 중복되면 안 돼. intent에 들어간 식당명/공지명은 keyword로 지정하지 마.
+        - 공지 키워드: %s
+        - 음식 키워드: 제육볶음, 돈까스 등
+        """.formatted(String.join(", ", NOTICE_KEYWORDS));
+
+    /**
+     * 1단계 system 메시지: 사용자 입력을 구어체/비속어 등에서 정제된 한국어 문장으로 바꾸는 지시문
      */
-    public static String buildNormalizePrompt(String rawUserInput) {
-        return """
+    private static final String NORMALIZE_SYSTEM = """
         너는 한경국립대학교의 학식 및 학교정보 챗봇에서 사용자 입력을 정제해주는 역할을 맡고 있어.
 
         사용자들은 주로 모바일로 빠르게 타이핑하므로,  
@@ -29,37 +63,17 @@ public class GptPromptBuilder {
         - "등록금 언제까지임" → 등록금 납부 마감일 알려줘
         - "졸업 언제냐 진짜" → 졸업일정 알려줘
 
-        사용자 질문:
-        "%s"
-        """.formatted(rawUserInput);
-    }
+        사용자 질문은 user 메시지로 전달돼.
+        """;
 
     /**
-     * 2단계: 정제된 문장에서 intent와 keyword를 추출하는 프롬프트
+     * 2단계 system 메시지: 정제된 문장에서 intent와 keyword를 추출하는 지시문
      */
-    public static String buildClassifyPrompt(String normalizedInput) {
-        return """
+    private static final String CLASSIFY_SYSTEM = """
         너는 한경국립대학교 챗봇 시스템의 정보 추출기야.  
-        사용자의 질문을 분석해서 반드시 아래 2가지를 JSON 형식으로 정확히 추출해.
-
-        1. intent: 다음 목록 중 하나로만 반환해.
-        - intent는 학사공지, 학사일정, 학생식당, 기숙사식당, 교직원식당, 한경공지, 장학공지, 식당 미지정, 전체공지, 없음 으로만
-        - intent는 반드시 위 목록 중 하나로만 반환하고, 다른 단어나 문장을 절대 포함하지 마.
-        
-            📌 intent 분류 규칙:
-                - "전체", "모든", "전부", "다" + "공지"가 함께 포함된 경우 반드시 '전체공지'로 분류
-                - “공지” 또는 “공지사항”이라는 단어가 포함되어 있다면 반드시 공지(intent = 학사공지/장학공지/한경공지/전체공지 중 하나)로 분류하라.
-                - "오늘 전체 공지", "이번주 전체 공지", "전체공지 알려줘" 등은 전부 intent='전체공지'
-                - 질문에 식당명(학생식당, 기숙사식당, 교직원식당)이 포함되면 intent는 반드시 해당 식당명으로 지정해야 해.
-                - 질문에 '일정'이라는 단어가 포함되어 있으면 intent는 무조건 '학사일정'으로 지정해야 해.
-                - 질문이 음식이나 식단에 대한 내용인데 식당명이 없다면 '식당 미지정'으로 지정해.
-                - 공지 종류가 불명확하면 '없음'으로 지정해.
-
-        2. keyword: 아래 항목 중 있으면 간단히 추출. 없으면 null
-        - keyword는 intent와 중복되면 안 돼. intent에 들어간 식당명/공지명은 keyword로 지정하지 마.
-        - 공지 키워드: 휴학, 등록금, 졸업, 학위수여, 수강신청, 시험, 축제, 개강, 종강, 계절수업, 등록기간, 전과, 체육대회, 수강철회, 수업일수, 장바구니, OT, 교외장학금, 국가근로, 한국장학재단, 국가보훈부
-        - 음식 키워드: 제육볶음, 돈까스 등
+        user 메시지로 전달되는 사용자의 질문을 분석해서 반드시 아래 2가지를 JSON 형식으로 정확히 추출해.
 
+        %s
         ⛔ 출력 형식은 JSON만 가능. 절대 다른 텍스트 포함 금지
 
         예시1:
@@ -85,24 +99,126 @@ public class GptPromptBuilder {
           "intent": "전체공지",
           "keyword": "오늘"
         }
+        """.formatted(CLASSIFY_RULES);
 
-        사용자 질문:
-        "%s"
-        """.formatted(normalizedInput);
-    }
+    /**
+     * One-shot system 메시지: 정제 + intent/keyword 추출을 한 번의 호출로 처리하는 지시문
+     */
+    private static final String ONE_SHOT_SYSTEM = """
+        너는 한경국립대학교 챗봇 시스템의 입력 정제기이자 정보 추출기야.
+        user 메시지로 전달되는 사용자 입력은 구어체, 줄임말, 띄어쓰기/맞춤법 오류가 많아.
+        먼저 입력을 의미가 명확한 짧은 한국어 문장으로 정제하고(normalized),
+        정제된 문장을 기준으로 아래 규칙에 따라 intent와 keyword를 JSON 형식으로 추출해.
+
+        0. normalized: 공손한 말투, 욕설, 감탄사는 제거하고 핵심 의미만 남긴 한 문장.
+        - 키워드(수강신청, 돈까스 등)는 반드시 유지해.
+        - 예: "야 학식 뭐나옴?" → 학생식당 메뉴 알려줘
+
+        %s
+        ⛔ 출력 형식은 JSON만 가능. 절대 다른 텍스트 포함 금지
+
+        예시:
+        {
+          "normalized": "기숙사식당 돈까스 나오는 날 알려줘",
+          "intent": "기숙사식당",
+          "keyword": "돈까스"
+        }
+        """.formatted(CLASSIFY_RULES);
 
     /**
-     * Fallback 응답: 의도 분류 실패 또는 테이블 매칭 실패 시
+     * 기숙사 식단 포맷 규칙 (단건/배치 포맷팅 프롬프트에서 공통으로 사용)
      */
-    public static String buildFallbackPrompt(String userInput) {
-        return """
-        다음은 사용자가 입력한 질문입니다:
-        "%s"
+    private static final String MEAL_FORMAT_RULES = """
+        기숙사 식단 메뉴를 시간대별로 [아침], [점심], [저녁] 태그를 붙여 구분하고, 각 항목은 - 기호로 줄바꿈해 깔끔하게 출력해줘.
+        다른 텍스트는 절대 추가하지 말고, 메뉴 내용만 다음 예시와 같은 형태로 반환해:
+
+        [점심] 12:00~13:00
+        - 귀리밥
+        - 소고기무국 (호주산)
+        ...
+        
+        [저녁] 17:00~18:10
+        - 참치김치밥
+        ...
+        
+        만약 [아침], [점심], [저녁] 시간대가 명확하지 않다면 절대로 [전체] 같은 임의의 태그를 넣지 말고, 그냥 항목만 - 기호로 나열해줘.
+        """;
 
+    private static final String FORMAT_MEAL_SYSTEM = """
+        user 메시지로 전달되는 %s
+        """.formatted(MEAL_FORMAT_RULES);
+
+    private static final String FORMAT_MEAL_BATCH_SYSTEM = """
+        user 메시지에 "### id=숫자" 로 구분된 여러 날짜의 %s
+        각 id의 메뉴는 서로 섞지 말고 따로 포맷팅해.
+        ⛔ 출력 형식은 JSON만 가능. formatted 값에는 위 형태의 포맷팅 결과만 줄바꿈(\\n) 포함 문자열로 넣어:
+        {"menus": [{"id": 1, "formatted": "[점심] 12:00~13:00\\n- 귀리밥"}]}
+        """.formatted(MEAL_FORMAT_RULES);
+
+    /**
+     * Fallback system 메시지: 의도 분류 실패 또는 테이블 매칭 실패 시
+     */
+    private static final String FALLBACK_SYSTEM = """
+        user 메시지는 사용자가 입력한 질문입니다.
         이 질문은 우리 데이터베이스에 등록된 정보와 직접적으로 관련이 없기 때문에,
         친절하고 간결한 설명으로 답변해줘.
 
         사용자가 한경국립대학교 학생임을 고려해 학내 정보, 주변 시설, 생활 편의 정보로 도움을 줘.
-        """.formatted(userInput);
+        """;
+
+    /**
+     * 템플릿별 system 메시지의 추정 토큰 수 (템플릿은 고정이므로 한 번만 계산)
+     */
+    private static final int NORMALIZE_SYSTEM_TOKENS = TokenEstimator.estimate(NORMALIZE_SYSTEM);
+    private static final int CLASSIFY_SYSTEM_TOKENS = TokenEstimator.estimate(CLASSIFY_SYSTEM);
+    private static final int ONE_SHOT_SYSTEM_TOKENS = TokenEstimator.estimate(ONE_SHOT_SYSTEM);
+    private static final int FORMAT_MEAL_SYSTEM_TOKENS = TokenEstimator.estimate(FORMAT_MEAL_SYSTEM);
+    private static final int FORMAT_MEAL_BATCH_SYSTEM_TOKENS = TokenEstimator.estimate(FORMAT_MEAL_BATCH_SYSTEM);
+    private static final int FALLBACK_SYSTEM_TOKENS = TokenEstimator.estimate(FALLBACK_SYSTEM);
+
+    /**
+     * 1단계: 사용자 입력을 구어체/비속어 등에서 정제된 한국어 문장으로 바꾸는 프롬프트
+     */
+    public static GptPrompt buildNormalizePrompt(String rawUserInput) {
+        return new GptPrompt(NORMALIZE_SYSTEM, rawUserInput, NORMALIZE_SYSTEM_TOKENS);
+    }
+
+    /**
+     * 2단계: 정제된 문장에서 intent와 keyword를 추출하는 프롬프트
+     */
+    public static GptPrompt buildClassifyPrompt(String normalizedInput) {
+        return new GptPrompt(CLASSIFY_SYSTEM, normalizedInput, CLASSIFY_SYSTEM_TOKENS);
+    }
+
+    /**
+     * One-shot: 정제 + intent/keyword 추출을 한 번의 호출로 처리하는 프롬프트
+     * 응답은 normalized, intent, keyword 세 필드를 가진 JSON 객체로 받습니다.
+     */
+    public static GptPrompt buildOneShotClassifyPrompt(String rawUserInput) {
+        return new GptPrompt(ONE_SHOT_SYSTEM, rawUserInput, ONE_SHOT_SYSTEM_TOKENS);
+    }
+
+    /**
+     * 기숙사 식단 한 건을 포맷팅하는 프롬프트
+     */
+    public static GptPrompt buildFormatMealPrompt(String rawMenu) {
+        return new GptPrompt(FORMAT_MEAL_SYSTEM, rawMenu, FORMAT_MEAL_SYSTEM_TOKENS);
+    }
+
+    /**
+     * 기숙사 식단 여러 건을 한 번에 포맷팅하는 프롬프트
+     * 응답은 {"menus": [{"id": 1, "formatted": "..."}]} 형태의 JSON 객체로 받습니다.
+     */
+    public static GptPrompt buildFormatMealBatchPrompt(Map<Long, String> rawMenus) {
+        StringBuilder menus = new StringBuilder();
+        rawMenus.forEach((id, rawMenu) -> menus.append("### id=").append(id).append("\n").append(rawMenu).append("\n\n"));
+        return new GptPrompt(FORMAT_MEAL_BATCH_SYSTEM, menus.toString().trim(), FORMAT_MEAL_BATCH_SYSTEM_TOKENS);
+    }
+
+    /**
+     * Fallback 응답: 의도 분류 실패 또는 테이블 매칭 실패 시
+     */
+    public static GptPrompt buildFallbackPrompt(String userInput) {
+        return new GptPrompt(FALLBACK_SYSTEM, userInput, FALLBACK_SYSTEM_TOKENS);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package org.example.chatbot.util;
+
+/**
+ * 한글 음절을 초성/중성/종성 자모로 분해합니다.
+ * "돈가스"와 "돈까스"는 음절 단위로는 한 글자가 다르지만 자모 단위로는 ㄱ/ㄲ 하나만 달라,
+ * 편집 거리를 자모 기준으로 재면 오타·표기 차이를 더 작은 거리로 잡을 수 있습니다.
+ * 한글 음절이 아닌 문자는 그대로 둡니다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char CHOSEONG_BASE = 0x1100;
+    private static final char JUNGSEONG_BASE = 0x1161;
+    private static final char JONGSEONG_BASE = 0x11A7;
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        if (text == null) return "";
+
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+                sb.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BASE;
+            sb.append((char) (CHOSEONG_BASE + index / 588));
+            sb.append((char) (JUNGSEONG_BASE + (index % 588) / 28));
+            if (index % 28 != 0) {
+                sb.append((char) (JONGSEONG_BASE + index % 28));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 짧은 문장의 근사 중복(near-duplicate)을 찾는 MinHash + LSH 색인입니다.
+ * 문장은 문자 n-gram 집합으로 보고, 자카드 유사도가 높은 후보만 밴드 버킷으로 빠르게 추린 뒤
+ * 실제 n-gram 집합으로 유사도를 다시 계산해 확인합니다.
+ * 모든 메서드는 동기화되어 있어 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * @param <K> 색인에 저장되는 항목의 키 타입
+ */
+public final class MinHashIndex<K> {
+
+    private static final long PRIME = 2_147_483_647L; // 2^31 - 1
+
+    private final int ngramSize;
+    private final int bands;
+    private final int rows;
+    private final long[] seedA;
+    private final long[] seedB;
+
+    private final Map<K, Set<String>> shingles = new HashMap<>();
+    private final Map<K, long[]> bandKeys = new HashMap<>();
+    private final List<Map<Long, Set<K>>> buckets = new ArrayList<>();
+
+    /**
+     * @param ngramSize 문자 n-gram 길이 (한국어 짧은 질문은 2가 적당)
+     * @param bands     LSH 밴드 수
+     * @param rows      밴드당 해시 수 (bands * rows 개의 해시 함수를 사용)
+     */
+    public MinHashIndex(int ngramSize, int bands, int rows) {
+        this.ngramSize = ngramSize;
+        this.bands = bands;
+        this.rows = rows;
+
+        Random random = new Random(42);
+        int hashes = bands * rows;
+        seedA = new long[hashes];
+        seedB = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            seedA[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            seedB[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        for (int b = 0; b < bands; b++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public synchronized void put(K key, String text) {
+        remove(key);
+        Set<String> grams = ngrams(text);
+        if (grams.isEmpty()) return;
+
+        long[] keys = bandKeys(signature(grams));
+        shingles.put(key, grams);
+        bandKeys.put(key, keys);
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).computeIfAbsent(keys[b], k -> new HashSet<>()).add(key);
+        }
+    }
+
+    public synchronized void remove(K key) {
+        long[] keys = bandKeys.remove(key);
+        shingles.remove(key);
+        if (keys == null) return;
+
+        for (int b = 0; b < bands; b++) {
+            Set<K> bucket = buckets.get(b).get(keys[b]);
+            if (bucket == null) continue;
+            bucket.remove(key);
+            if (bucket.isEmpty()) buckets.get(b).remove(keys[b]);
+        }
+    }
+
+    /**
+     * 자카드 유사도가 threshold 이상인 항목 중 가장 유사한 항목을 반환합니다.
+     */
+    public synchronized Optional<K> findMostSimilar(String text, double threshold) {
+        Set<String> grams = ngrams(text);
+        if (grams.isEmpty()) return Optional.empty();
+
+        long[] keys = bandKeys(signature(grams));
+        Set<K> candidates = new HashSet<>();
+        for (int b = 0; b < bands; b++) {
+            Set<K> bucket = buckets.get(b).get(keys[b]);
+            if (bucket != null) candidates.addAll(bucket);
+        }
+
+        K best = null;
+        double bestScore = threshold;
+        for (K candidate : candidates) {
+            double score = jaccard(grams, shingles.get(candidate));
+            if (score >= bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public synchronized int size() {
+        return shingles.size();
+    }
+
+    private Set<String> ngrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null || text.isEmpty()) return grams;
+        if (text.length() <= ngramSize) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + ngramSize <= text.length(); i++) {
+            grams.add(text.substring(i, i + ngramSize));
+        }
+        return grams;
+    }
+
+    private long[] signature(Set<String> grams) {
+        long[] signature = new long[seedA.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String gram : grams) {
+            long x = gram.hashCode() & 0xffffffffL;
+            for (int i = 0; i < signature.length; i++) {
+                long h = (seedA[i] * x + seedB[i]) % PRIME;
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    private long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long hash = 1125899906842597L;
+            for (int r = 0; r < rows; r++) {
+                hash = 31 * hash + signature[b * rows + r];
+            }
+            keys[b] = hash;
+        }
+        return keys;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (b == null || b.isEmpty()) return 0.0;
+        int intersection = 0;
+        for (String gram : a) {
+            if (b.contains(gram)) intersection++;
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 짧은 문장을 분류하는 문자 n-gram 다항(multinomial) 나이브 베이즈 분류기입니다.
+ * 띄어쓰기/문장부호 차이에 흔들리지 않도록 {@link TextCanonicalizer}로 정규화한 뒤
+ * 앞뒤 경계 표시(^, $)를 붙여 minN~maxN 길이의 n-gram을 특징으로 사용합니다.
+ * 학습 결과는 {@link Model}(단순 카운트)로 내보내 JSON 파일로 저장/복원할 수 있으며,
+ * 생성된 인스턴스는 불변이라 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public final class NaiveBayesTextClassifier {
+
+    public record Sample(String text, String label) {
+    }
+
+    /**
+     * @param confidence 사후 확률(0~1). 학습 때 본 적 없는 n-gram만으로 이루어진 입력이면 label=null, confidence=0
+     */
+    public record Prediction(String label, double confidence) {
+    }
+
+    /**
+     * 직렬화용 학습 결과입니다.
+     *
+     * @param documents 라벨별 학습 문장 수
+     * @param features  라벨별 n-gram 출현 횟수
+     */
+    public record Model(int minN, int maxN, double alpha,
+                        Map<String, Integer> documents,
+                        Map<String, Map<String, Integer>> features) {
+    }
+
+    private final Model model;
+    private final Map<String, Double> logPriors = new HashMap<>();
+    private final Map<String, Double> logDenominators = new HashMap<>();
+    private final Set<String> vocabulary = new HashSet<>();
+
+    private NaiveBayesTextClassifier(Model model) {
+        this.model = model;
+
+        int totalDocuments = model.documents().values().stream().mapToInt(Integer::intValue).sum();
+        model.features().values().forEach(counts -> vocabulary.addAll(counts.keySet()));
+
+        for (Map.Entry<String, Integer> entry : model.documents().entrySet()) {
+            String label = entry.getKey();
+            long featureTotal = model.features().getOrDefault(label, Map.of()).values().stream()
+                    .mapToLong(Integer::longValue).sum();
+            logPriors.put(label, Math.log((double) entry.getValue() / totalDocuments));
+            logDenominators.put(label, Math.log(featureTotal + model.alpha() * vocabulary.size()));
+        }
+    }
+
+    public static NaiveBayesTextClassifier of(Model model) {
+        if (model == null || model.documents() == null || model.documents().isEmpty() || model.features() == null) {
+            throw new IllegalArgumentException("학습된 라벨이 없는 모델입니다.");
+        }
+        return new NaiveBayesTextClassifier(model);
+    }
+
+    public static NaiveBayesTextClassifier train(Collection<Sample> samples, int minN, int maxN, double alpha) {
+        Map<String, Integer> documents = new TreeMap<>();
+        Map<String, Map<String, Integer>> features = new TreeMap<>();
+
+        for (Sample sample : samples) {
+            List<String> grams = ngrams(sample.text(), minN, maxN);
+            if (grams.isEmpty()) continue;
+
+            documents.merge(sample.label(), 1, Integer::sum);
+            Map<String, Integer> counts = features.computeIfAbsent(sample.label(), l -> new HashMap<>());
+            for (String gram : grams) {
+                counts.merge(gram, 1, Integer::sum);
+            }
+        }
+        return of(new Model(minN, maxN, alpha, documents, features));
+    }
+
+    public Prediction predict(String text) {
+        List<String> grams = ngrams(text, model.minN(), model.maxN());
+        grams.removeIf(gram -> !vocabulary.contains(gram));
+        if (grams.isEmpty()) return new Prediction(null, 0);
+
+        String best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        Map<String, Double> scores = new HashMap<>();
+
+        for (String label : model.documents().keySet()) {
+            Map<String, Integer> counts = model.features().getOrDefault(label, Map.of());
+            double denominator = logDenominators.get(label);
+            double score = logPriors.get(label);
+            for (String gram : grams) {
+                score += Math.log(counts.getOrDefault(gram, 0) + model.alpha()) - denominator;
+            }
+            scores.put(label, score);
+            if (score > bestScore) {
+                bestScore = score;
+                best = label;
+            }
+        }
+
+        // log-sum-exp로 사후 확률을 계산 (최고 점수를 빼서 underflow 방지)
+        double sum = 0;
+        for (double score : scores.values()) {
+            sum += Math.exp(score - bestScore);
+        }
+        return new Prediction(best, 1.0 / sum);
+    }
+
+    public Model model() {
+        return model;
+    }
+
+    public Set<String> labels() {
+        return Collections.unmodifiableSet(model.documents().keySet());
+    }
+
+    static List<String> ngrams(String text, int minN, int maxN) {
+        String canonical = TextCanonicalizer.canonicalize(text);
+        List<String> grams = new ArrayList<>();
+        if (canonical.isEmpty()) return grams;
+
+        String padded = "^" + canonical + "$";
+        for (int n = minN; n <= maxN; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                String gram = padded.substring(i, i + n);
+                if (n == 1 && (gram.equals("^") || gram.equals("$"))) continue;
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 자동완성용 접두어 트라이입니다.
+ * 각 항목은 텍스트의 단어 시작 위치마다(예: "2학기 수강신청 안내" → "2학기…", "수강신청…", "안내") 색인되며,
+ * 키는 TextCanonicalizer로 정규화해 공백·문장부호·대소문자 차이를 무시합니다.
+ * 노드마다 가중치 상위 MAX_RESULTS개 항목을 미리 계산해 두므로 조회는 접두어 길이만큼 내려가는 시간에 끝납니다.
+ * 메모리를 제한하기 위해 키는 MAX_DEPTH자까지만 트리로 만들고, 그보다 긴 접두어는 마지막 노드의 항목을 걸러 답합니다.
+ * 생성 이후에는 불변이므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+public final class PrefixTrie<T> {
+
+    public static final int MAX_RESULTS = 10;
+    private static final int MAX_DEPTH = 8;
+
+    private record Entry<T>(T value, double weight, String text, List<String> keys) {
+    }
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int[] NO_ENTRIES = new int[0];
+
+    private static final class Node {
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int[] top = NO_ENTRIES;
+        private int[] bucket;
+        private int terminalCount;
+        private int[] terminals = NO_ENTRIES;
+
+        /**
+         * 빌드 중에만 사용하는 자식 추가 (labels 정렬 유지)
+         */
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) return children[index];
+
+            int insertAt = -index - 1;
+            char[] nextLabels = new char[labels.length + 1];
+            Node[] nextChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, nextLabels, 0, insertAt);
+            System.arraycopy(children, 0, nextChildren, 0, insertAt);
+            nextLabels[insertAt] = label;
+            nextChildren[insertAt] = new Node();
+            System.arraycopy(labels, insertAt, nextLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, nextChildren, insertAt + 1, children.length - insertAt);
+            labels = nextLabels;
+            children = nextChildren;
+            return nextChildren[insertAt];
+        }
+
+        private void addTerminal(int id) {
+            if (terminalCount == terminals.length) terminals = Arrays.copyOf(terminals, Math.max(2, terminalCount * 2));
+            terminals[terminalCount++] = id;
+        }
+    }
+
+    private final List<Entry<T>> entries;
+    private final Node root;
+
+    private PrefixTrie(List<Entry<T>> entries) {
+        this.entries = entries;
+        this.root = new Node();
+        for (int id = 0; id < entries.size(); id++) {
+            for (String key : entries.get(id).keys()) {
+                Node node = root;
+                for (int i = 0; i < key.length() && i < MAX_DEPTH; i++) {
+                    node = node.child(key.charAt(i));
+                }
+                node.addTerminal(id);
+            }
+        }
+        freeze(root, 0);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * prefix로 시작하는 단어가 있는 항목을 가중치가 높은 순으로 최대 limit(≤ MAX_RESULTS)개 반환합니다.
+     */
+    public List<T> complete(String prefix, int limit) {
+        String key = TextCanonicalizer.canonicalize(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        Node node = root;
+        for (int i = 0; i < key.length() && i < MAX_DEPTH; i++) {
+            int index = Arrays.binarySearch(node.labels, key.charAt(i));
+            if (index < 0) return List.of();
+            node = node.children[index];
+        }
+
+        List<T> result = new ArrayList<>(Math.min(limit, MAX_RESULTS));
+        if (key.length() <= MAX_DEPTH) {
+            for (int i = 0; i < node.top.length && result.size() < limit; i++) {
+                result.add(entries.get(node.top[i]).value());
+            }
+            return result;
+        }
+        for (int id : node.bucket) {
+            if (result.size() >= limit) break;
+            Entry<T> entry = entries.get(id);
+            if (entry.keys().stream().anyMatch(k -> k.startsWith(key))) result.add(entry.value());
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 하위 노드부터 상위 항목을 합쳐 올립니다. 항목 번호는 가중치 순으로 매겨져 있어 번호가 작을수록 앞섭니다.
+     * 깊이 MAX_DEPTH 노드(항상 잎)에는 그 노드의 항목 전체(bucket)를 남깁니다.
+     */
+    private void freeze(Node node, int depth) {
+        for (Node child : node.children) {
+            freeze(child, depth + 1);
+        }
+
+        int[] candidates = Arrays.copyOf(node.terminals, node.terminalCount);
+        Arrays.sort(candidates);
+        candidates = mergeTop(candidates, NO_ENTRIES, depth == MAX_DEPTH ? Integer.MAX_VALUE : MAX_RESULTS);
+        for (Node child : node.children) {
+            candidates = mergeTop(candidates, child.top, MAX_RESULTS);
+        }
+        node.terminals = NO_ENTRIES;
+        node.terminalCount = 0;
+
+        if (depth == MAX_DEPTH) node.bucket = candidates;
+        node.top = candidates.length > MAX_RESULTS ? Arrays.copyOf(candidates, MAX_RESULTS) : candidates;
+    }
+
+    /**
+     * 정렬된 두 번호 목록을 중복 없이 합쳐 앞에서 limit개를 남깁니다.
+     */
+    private static int[] mergeTop(int[] left, int[] right, int limit) {
+        int[] merged = new int[Math.min(limit, left.length + right.length)];
+        int i = 0, j = 0, n = 0;
+        while (n < merged.length && (i < left.length || j < right.length)) {
+            int next;
+            if (j >= right.length || (i < left.length && left[i] <= right[j])) next = left[i++];
+            else next = right[j++];
+            if (n == 0 || merged[n - 1] != next) merged[n++] = next;
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Entry<T>> entries = new ArrayList<>();
+
+        /**
+         * text의 각 단어 시작 위치를 키로 value를 추가합니다. weight가 클수록 먼저 제안됩니다.
+         */
+        public Builder<T> add(String text, T value, double weight) {
+            if (text == null || text.isBlank()) return this;
+
+            Set<String> keys = new LinkedHashSet<>();
+            boolean wordStart = true;
+            for (int i = 0; i < text.length(); i++) {
+                boolean letter = Character.isLetterOrDigit(text.charAt(i));
+                if (letter && wordStart) {
+                    String key = TextCanonicalizer.canonicalize(text.substring(i));
+                    if (!key.isEmpty()) keys.add(key);
+                }
+                wordStart = !letter;
+            }
+            if (!keys.isEmpty()) entries.add(new Entry<>(value, weight, text, List.copyOf(keys)));
+            return this;
+        }
+
+        public PrefixTrie<T> build() {
+            List<Entry<T>> ranked = new ArrayList<>(entries);
+            ranked.sort(Comparator.comparingDouble((Entry<T> entry) -> -entry.weight())
+                    .thenComparingInt(entry -> entry.text().length())
+                    .thenComparing(Entry::text));
+            return new PrefixTrie<>(List.copyOf(ranked));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.chatbot.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 비동기 호출을 하나로 합칩니다. (single-flight)
+ * 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 받으며, 호출이 끝나면 키는 즉시 비워집니다.
+ * 결과는 캐싱하지 않습니다.
+ *
+ * @param <K> 호출을 구분하는 키
+ * @param <V> 호출 결과
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param call     진행 중인 같은 키의 호출이 없을 때만 실행됩니다.
+     * @param onShared 진행 중인 호출에 합류했을 때 실행됩니다. (메트릭용)
+     * @return 호출자마다 별도의 future (orTimeout 등을 걸어도 다른 호출자에게 영향 없음)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call, Runnable onShared) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            onShared.run();
+            return existing.copy();
+        }
+
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(key, leader);
+                if (error != null) {
+                    leader.completeExceptionally(error);
+                } else {
+                    leader.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+        }
+        return leader.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+
+/**
+ * 별칭/동의어 사전입니다. 사전의 모든 표기를 하나의 Aho-Corasick 오토마타로 컴파일해 두고,
+ * 입력을 한 번만 훑어 구역(category)별 대표어를 찾거나 키워드를 같은 그룹의 말로 확장합니다.
+ * 표기와 입력은 모두 TextCanonicalizer로 정규화해 비교하므로 "학생 식당"과 "학생식당"은 같습니다.
+ * 생성 이후에는 불변이므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ *
+ * 사전 형식 (한 줄에 한 그룹, '#' 뒤는 주석)
+ * <pre>
+ * [cafeteria]
+ * 학생식당 = 학식, 학생 식당
+ * [keyword]
+ * 학위수여 = 졸업
+ * </pre>
+ * 같은 구역 안에서는 먼저 적은 그룹이 우선합니다. (입력에 여러 그룹이 나오면 위쪽 그룹의 대표어를 반환)
+ */
+public final class SynonymDictionary {
+
+    /**
+     * @param terms 대표어를 첫 항목으로 하는 그룹의 모든 표기
+     * @param order 사전 안에서의 순서 (우선순위)
+     */
+    public record Group(String category, String canonical, List<String> terms, int order) {
+    }
+
+    private final AhoCorasickMatcher<List<Group>> matcher;
+    private final int size;
+
+    private SynonymDictionary(List<Group> groups) {
+        Map<String, List<Group>> patterns = new HashMap<>();
+        for (Group group : groups) {
+            for (String term : group.terms()) {
+                String key = TextCanonicalizer.canonicalize(term);
+                if (key.isEmpty()) continue;
+                List<Group> owners = patterns.computeIfAbsent(key, k -> new ArrayList<>());
+                if (!owners.contains(group)) owners.add(group);
+            }
+        }
+        this.matcher = AhoCorasickMatcher.compile(patterns);
+        this.size = groups.size();
+    }
+
+    public static SynonymDictionary of(List<Group> groups) {
+        return new SynonymDictionary(groups);
+    }
+
+    /**
+     * 사전 파일 내용을 읽어 컴파일합니다. 구역 밖에 있거나 형식이 맞지 않는 줄은 IllegalArgumentException.
+     */
+    public static SynonymDictionary parse(List<String> lines) {
+        List<Group> groups = new ArrayList<>();
+        String category = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.strip();
+            if (line.isEmpty()) continue;
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                category = line.substring(1, line.length() - 1).strip();
+                continue;
+            }
+            if (category == null || category.isEmpty()) {
+                throw new IllegalArgumentException("%d번째 줄: 구역([이름]) 밖의 항목입니다: %s".formatted(i + 1, line));
+            }
+
+            int separator = line.indexOf('=');
+            String canonical = (separator >= 0 ? line.substring(0, separator) : line).strip();
+            if (canonical.isEmpty()) {
+                throw new IllegalArgumentException("%d번째 줄: 대표어가 없습니다: %s".formatted(i + 1, line));
+            }
+            List<String> terms = new ArrayList<>(List.of(canonical));
+            if (separator >= 0) {
+                for (String alias : line.substring(separator + 1).split(",")) {
+                    if (!alias.isBlank() && !terms.contains(alias.strip())) terms.add(alias.strip());
+                }
+            }
+            groups.add(new Group(category, canonical, List.copyOf(terms), groups.size()));
+        }
+        return new SynonymDictionary(groups);
+    }
+
+    /**
+     * 입력에 나온 category 구역의 그룹 중 우선순위가 가장 높은 그룹의 대표어. 없으면 null.
+     */
+    public String canonical(String category, String text) {
+        Group best = null;
+        for (AhoCorasickMatcher.Match<List<Group>> match : matcher.findAll(TextCanonicalizer.canonicalize(text))) {
+            for (Group group : match.value()) {
+                if (group.category().equals(category) && (best == null || group.order() < best.order())) {
+                    best = group;
+                }
+            }
+        }
+        return best == null ? null : best.canonical();
+    }
+
+    /**
+     * 키워드 자신과, 키워드에 나온 category 구역 그룹의 다른 표기들을 중복 없이 반환합니다.
+     * (예: "졸업" → ["졸업", "학위수여"]) 키워드가 없으면 빈 목록입니다.
+     */
+    public List<String> expand(String category, String keyword) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+
+        Set<String> expanded = new LinkedHashSet<>(List.of(keyword));
+        for (AhoCorasickMatcher.Match<List<Group>> match : matcher.findLongestNonOverlapping(TextCanonicalizer.canonicalize(keyword))) {
+            for (Group group : match.value()) {
+                if (group.category().equals(category)) expanded.addAll(group.terms());
+            }
+        }
+        return List.copyOf(expanded);
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.chatbot.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 캐시 키/사전 매칭용으로 사용자 입력을 정규화하는 유틸리티 클래스입니다.
+ * 유니코드 호환 문자(NFKC), 대소문자, 공백, 문장부호 차이를 모두 접어서
+ * "오늘 학식?" 과 "오늘학식" 이 같은 키가 되도록 합니다.
+ */
+public class TextCanonicalizer {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static String canonicalize(String input) {
+        if (input == null) return "";
+        String normalized = Normalizer.normalize(input, Normalizer.Form.NFKC);
+        return NON_WORD.matcher(normalized).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.chatbot.util;
+
+/**
+ * 토크나이저 없이 문자열의 토큰 수를 대략 추정하는 유틸리티 클래스입니다.
+ * 영문/숫자/기호(ASCII)는 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰으로 계산합니다.
+ * (GPT 토크나이저 기준으로 약간 넉넉하게 잡히므로 예산 확인/한도 계산에 사용하기 적당합니다)
+ */
+public class TokenEstimator {
+
+    private static final double ASCII_CHARS_PER_TOKEN = 4.0;
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) return 0;
+
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) ascii++;
+            else other++;
+        }
+        return (int) Math.ceil(ascii / ASCII_CHARS_PER_TOKEN) + other;
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens 이하가 되도록 문자열 뒤쪽을 잘라냅니다.
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) return text;
+
+        double tokens = 0;
+        for (int i = 0; i < text.length(); i++) {
+            tokens += text.charAt(i) < 0x80 ? 1 / ASCII_CHARS_PER_TOKEN : 1;
+            if (tokens > maxTokens) return text.substring(0, i);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,75 @@
+-- 엔티티가 문자열 날짜(yyyy-MM-dd)를 쓰던 시점의 스키마입니다.
+-- 이미 테이블이 있는 DB는 baseline(버전 1)으로 표시되어 이 스크립트를 건너뜁니다. (FlywayConfig)
+
+CREATE TABLE IF NOT EXISTS student_meals (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    meal_date VARCHAR(255) NULL,
+    meal_time VARCHAR(255) NULL,
+    menu      TEXT         NULL,
+    hash      VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_student_meals_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS faculty_meals (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    meal_date VARCHAR(255) NULL,
+    meal_time VARCHAR(255) NULL,
+    menu      TEXT         NULL,
+    hash      VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_faculty_meals_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS dorm_meals (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    meal_date      VARCHAR(255) NULL,
+    meal_time      VARCHAR(255) NULL,
+    menu           TEXT         NULL,
+    hash           VARCHAR(64)  NULL,
+    formatted_menu TEXT         NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_dorm_meals_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS academic_notices (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255) NULL,
+    notice_date VARCHAR(255) NULL,
+    author      VARCHAR(255) NULL,
+    link        TEXT         NULL,
+    hash        VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_academic_notices_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS scholarship_notices (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255) NULL,
+    notice_date VARCHAR(255) NULL,
+    author      VARCHAR(255) NULL,
+    link        TEXT         NULL,
+    hash        VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_scholarship_notices_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS hankyong_notices (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255) NULL,
+    notice_date VARCHAR(255) NULL,
+    author      VARCHAR(255) NULL,
+    link        TEXT         NULL,
+    hash        VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_hankyong_notices_hash (hash)
+);
+
+CREATE TABLE IF NOT EXISTS academic_schedule (
+    id      BIGINT       NOT NULL AUTO_INCREMENT,
+    date    VARCHAR(255) NULL,
+    content MEDIUMTEXT   NULL,
+    hash    VARCHAR(64)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_academic_schedule_hash (hash)
+);
@@ -0,0 +1,118 @@
+-- 날짜 컬럼을 문자열에서 DATE로 바꾸고 조회 패턴(기간 + 식사 시간)에 맞는 인덱스를 추가합니다.
+-- 1) 크롤러 fallback 값('2025.07.01', '2025-6-1', 앞뒤 문구 포함 등)에서 날짜 부분만 남기고 구분자를 '-'로 통일
+-- 2) 날짜를 찾을 수 없는 값과 달력에 없는 날짜(예전 기숙사 크롤러가 만들던 '2025-06-31' 등)는 NULL
+--    STR_TO_DATE는 strict 모드의 UPDATE에서 잘못된 날짜를 오류로 처리하므로, 연/월/일을 숫자로 꺼내
+--    해당 월의 마지막 날(LAST_DAY)과 비교합니다. (CASE로 범위 밖 연/월은 날짜 함수에 넣지 않음)
+-- 3) ALTER 한 번으로 타입 변경과 인덱스 추가 (테이블 재작성 1회). 남은 값은 모두 유효한 날짜라 strict 모드에서도 변환됨
+
+UPDATE student_meals
+SET meal_date = REPLACE(REGEXP_SUBSTR(meal_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE meal_date IS NOT NULL;
+
+UPDATE student_meals
+SET meal_date = NULL
+WHERE meal_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(meal_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE student_meals
+    MODIFY COLUMN meal_date DATE NULL,
+    ADD INDEX idx_student_meals_date_time (meal_date, meal_time);
+
+UPDATE faculty_meals
+SET meal_date = REPLACE(REGEXP_SUBSTR(meal_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE meal_date IS NOT NULL;
+
+UPDATE faculty_meals
+SET meal_date = NULL
+WHERE meal_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(meal_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE faculty_meals
+    MODIFY COLUMN meal_date DATE NULL,
+    ADD INDEX idx_faculty_meals_date_time (meal_date, meal_time);
+
+UPDATE dorm_meals
+SET meal_date = REPLACE(REGEXP_SUBSTR(meal_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE meal_date IS NOT NULL;
+
+UPDATE dorm_meals
+SET meal_date = NULL
+WHERE meal_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(meal_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(meal_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(meal_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE dorm_meals
+    MODIFY COLUMN meal_date DATE NULL,
+    ADD INDEX idx_dorm_meals_date_time (meal_date, meal_time);
+
+UPDATE academic_notices
+SET notice_date = REPLACE(REGEXP_SUBSTR(notice_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE notice_date IS NOT NULL;
+
+UPDATE academic_notices
+SET notice_date = NULL
+WHERE notice_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(notice_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE academic_notices
+    MODIFY COLUMN notice_date DATE NULL,
+    ADD INDEX idx_academic_notices_date (notice_date);
+
+UPDATE scholarship_notices
+SET notice_date = REPLACE(REGEXP_SUBSTR(notice_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE notice_date IS NOT NULL;
+
+UPDATE scholarship_notices
+SET notice_date = NULL
+WHERE notice_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(notice_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE scholarship_notices
+    MODIFY COLUMN notice_date DATE NULL,
+    ADD INDEX idx_scholarship_notices_date (notice_date);
+
+UPDATE hankyong_notices
+SET notice_date = REPLACE(REGEXP_SUBSTR(notice_date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE notice_date IS NOT NULL;
+
+UPDATE hankyong_notices
+SET notice_date = NULL
+WHERE notice_date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(notice_date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(notice_date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(notice_date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE hankyong_notices
+    MODIFY COLUMN notice_date DATE NULL,
+    ADD INDEX idx_hankyong_notices_date (notice_date);
+
+UPDATE academic_schedule
+SET date = REPLACE(REGEXP_SUBSTR(date, '[0-9]{4}[.-][0-9]{1,2}[.-][0-9]{1,2}'), '.', '-')
+WHERE date IS NOT NULL;
+
+UPDATE academic_schedule
+SET date = NULL
+WHERE date IS NOT NULL
+  AND CAST(SUBSTRING_INDEX(date, '-', -1) AS UNSIGNED) NOT BETWEEN 1 AND CASE
+      WHEN CAST(SUBSTRING_INDEX(date, '-', 1) AS UNSIGNED) >= 1000 AND CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(date, '-', 2), '-', -1) AS UNSIGNED) BETWEEN 1 AND 12
+          THEN DAY(LAST_DAY(MAKEDATE(CAST(SUBSTRING_INDEX(date, '-', 1) AS UNSIGNED), 1) + INTERVAL (CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(date, '-', 2), '-', -1) AS UNSIGNED) - 1) MONTH))
+      ELSE 0 END;
+
+ALTER TABLE academic_schedule
+    MODIFY COLUMN date DATE NULL,
+    ADD INDEX idx_academic_schedule_date (date);
@@ -0,0 +1,287 @@
+package org.example.chatbot.client.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.util.TokenEstimator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * OpenAI chat-completions 프로토콜을 흉내 내는 로컬 스텁 서버입니다. (부하/지연 테스트용)
+ * system/user 메시지(StubPrompt)를 기준으로 응답을 고르며, 우선순위는 다음과 같습니다.
+ * <ol>
+ *   <li>카세트: 실제 OpenAI 응답을 기록한 JSON Lines 파일({"system": ..., "user": ..., "content": ...})과 두 메시지가 정확히 일치</li>
+ *   <li>스크립트 규칙: system 또는 user 메시지에 지정한 문자열이 포함되면 해당 응답 (등록 순서대로 검사)</li>
+ *   <li>기본 응답</li>
+ * </ol>
+ * 지연 분포와 오류 주입(지정 확률로 429/5xx 응답)을 설정할 수 있고, stream=true 요청에는 SSE 청크로 응답합니다.
+ */
+@Slf4j
+public class OpenAiStubServer implements AutoCloseable {
+
+    public static final String COMPLETIONS_PATH = "/v1/chat/completions";
+
+    private final ObjectMapper objectMapper;
+    private final Map<StubPrompt, String> cassette = new ConcurrentHashMap<>();
+    private final List<Map.Entry<String, Function<StubPrompt, String>>> rules = new CopyOnWriteArrayList<>();
+    private final Set<String> seenSystemPrompts = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private volatile Function<StubPrompt, String> defaultResponse = prompt -> "스텁 응답입니다.";
+    private volatile StubLatency latency = StubLatency.none();
+    private volatile double errorRate;
+    private volatile int errorStatus = 500;
+    private volatile int streamChunkSize = 4;
+
+    private HttpServer server;
+    private ExecutorService workers;
+
+    public OpenAiStubServer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 스텁이 받은 프롬프트 (여러 개면 마지막 system/user 메시지)
+     */
+    public record StubPrompt(String system, String user) {
+
+        boolean contains(String text) {
+            return system.contains(text) || user.contains(text);
+        }
+    }
+
+    /**
+     * system 또는 user 메시지에 text가 포함되면 content로 응답합니다.
+     */
+    public OpenAiStubServer respondWhen(String text, String content) {
+        return respondWhen(text, prompt -> content);
+    }
+
+    public OpenAiStubServer respondWhen(String text, Function<StubPrompt, String> responder) {
+        rules.add(Map.entry(text, responder));
+        return this;
+    }
+
+    public OpenAiStubServer defaultResponse(Function<StubPrompt, String> responder) {
+        this.defaultResponse = responder;
+        return this;
+    }
+
+    public OpenAiStubServer record(String system, String user, String content) {
+        cassette.put(new StubPrompt(system, user), content);
+        return this;
+    }
+
+    /**
+     * JSON Lines 카세트 파일을 읽어 들입니다. (OpenAiClient의 openai.cassette.record-path로 기록한 파일)
+     */
+    public OpenAiStubServer loadCassette(Path path) throws IOException {
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) continue;
+            JsonNode entry = objectMapper.readTree(line);
+            cassette.put(new StubPrompt(entry.path("system").asText(""), entry.path("user").asText("")),
+                    entry.path("content").asText());
+        }
+        log.info("📼 스텁 카세트 로드: {} ({}건)", path, cassette.size());
+        return this;
+    }
+
+    public OpenAiStubServer latency(StubLatency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * rate 확률로 status 오류 응답을 돌려줍니다. (예: 0.05, 429)
+     */
+    public OpenAiStubServer errors(double rate, int status) {
+        this.errorRate = rate;
+        this.errorStatus = status;
+        return this;
+    }
+
+    public OpenAiStubServer streamChunkSize(int chars) {
+        this.streamChunkSize = Math.max(1, chars);
+        return this;
+    }
+
+    /**
+     * @param port 0이면 빈 포트를 자동으로 사용합니다.
+     */
+    public OpenAiStubServer start(int port) throws IOException {
+        workers = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext(COMPLETIONS_PATH, this::handle);
+        server.setExecutor(workers);
+        server.start();
+        log.info("🧪 OpenAI 스텁 서버 시작: {}", url());
+        return this;
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + COMPLETIONS_PATH;
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) server.stop(0);
+        if (workers != null) workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "{\"error\":{\"message\":\"method not allowed\"}}");
+                return;
+            }
+
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            StubPrompt prompt = prompt(request);
+
+            sleep(latency.sampleMillis());
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                send(exchange, errorStatus, "{\"error\":{\"message\":\"injected error\",\"type\":\"stub\"}}");
+                return;
+            }
+
+            String content = respond(prompt);
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, request, prompt, content);
+            } else {
+                send(exchange, 200, objectMapper.writeValueAsString(completion(request, prompt, content)));
+            }
+        } catch (Exception e) {
+            log.warn("❗ 스텁 서버 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private String respond(StubPrompt prompt) {
+        String recorded = cassette.get(prompt);
+        if (recorded != null) return recorded;
+
+        for (Map.Entry<String, Function<StubPrompt, String>> rule : rules) {
+            if (prompt.contains(rule.getKey())) return rule.getValue().apply(prompt);
+        }
+        return defaultResponse.apply(prompt);
+    }
+
+    private StubPrompt prompt(JsonNode request) {
+        String system = "";
+        String user = "";
+        for (JsonNode message : request.path("messages")) {
+            switch (message.path("role").asText()) {
+                case "system" -> system = message.path("content").asText();
+                case "user" -> user = message.path("content").asText();
+                default -> { }
+            }
+        }
+        return new StubPrompt(system, user);
+    }
+
+    private ObjectNode completion(JsonNode request, StubPrompt prompt, String content) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-stub-" + requestCount.get());
+        response.put("object", "chat.completion");
+        response.put("model", request.path("model").asText("stub"));
+
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+
+        response.set("usage", usage(prompt, content));
+        return response;
+    }
+
+    private void stream(HttpExchange exchange, JsonNode request, StubPrompt prompt, String content) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        OutputStream out = exchange.getResponseBody();
+        long chunkDelay = latency.median().toMillis() / Math.max(1, content.length() / streamChunkSize);
+        for (int i = 0; i < content.length(); i += streamChunkSize) {
+            String piece = content.substring(i, Math.min(content.length(), i + streamChunkSize));
+
+            ObjectNode chunk = objectMapper.createObjectNode();
+            chunk.put("object", "chat.completion.chunk");
+            chunk.put("model", request.path("model").asText("stub"));
+            ArrayNode choices = chunk.putArray("choices");
+            choices.addObject().put("index", 0).putObject("delta").put("content", piece);
+            writeEvent(out, objectMapper.writeValueAsString(chunk));
+            sleep(Math.min(chunkDelay, 50));
+        }
+
+        if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+            ObjectNode usageChunk = objectMapper.createObjectNode();
+            usageChunk.putArray("choices");
+            usageChunk.set("usage", usage(prompt, content));
+            writeEvent(out, objectMapper.writeValueAsString(usageChunk));
+        }
+        writeEvent(out, "[DONE]");
+    }
+
+    private void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * 토큰 수는 TokenEstimator로 추정합니다.
+     * 이전에 같은 system 메시지를 받은 적이 있으면 그 부분을 프롬프트 캐시 적중(cached_tokens)으로 응답합니다.
+     */
+    private ObjectNode usage(StubPrompt prompt, String content) {
+        int systemTokens = TokenEstimator.estimate(prompt.system());
+        int promptTokens = systemTokens + TokenEstimator.estimate(prompt.user());
+        int completionTokens = TokenEstimator.estimate(content);
+        boolean cached = !prompt.system().isEmpty() && !seenSystemPrompts.add(prompt.system());
+
+        ObjectNode usage = objectMapper.createObjectNode();
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        usage.putObject("prompt_tokens_details").put("cached_tokens", cached ? systemTokens : 0);
+        return usage;
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.chatbot.client.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.chatbot.client.OpenAiClient;
+import org.example.chatbot.client.OpenAiException;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.example.chatbot.dto.ChatMessageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAiStubServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OpenAiStubServer stub;
+    private OpenAiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new OpenAiStubServer(objectMapper).start(0);
+
+        client = new OpenAiClient(objectMapper);
+        ReflectionTestUtils.setField(client, "apiKey", "test");
+        ReflectionTestUtils.setField(client, "apiUrl", stub.url());
+        ReflectionTestUtils.setField(client, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(client, "requestTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(client, "cassetteRecordPath", "");
+        ReflectionTestUtils.invokeMethod(client, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void scriptedRuleAnswersMatchingPrompt() {
+        stub.respondWhen("학식", "학생식당 메뉴 알려줘");
+
+        ChatCompletionResponseDto response = client.chatAsync(request("야 학식 뭐나옴?")).join();
+
+        assertEquals("학생식당 메뉴 알려줘", response.firstContent());
+        assertTrue(response.getUsage().getPromptTokens() > 0);
+    }
+
+    @Test
+    void cassetteTakesPrecedenceOverRules() throws IOException {
+        Path cassette = Files.createTempFile("openai-cassette", ".jsonl");
+        Files.writeString(cassette, "{\"user\": \"오늘 학식 뭐야\", \"content\": \"{\\\"intent\\\": \\\"학생식당\\\"}\"}\n");
+        stub.respondWhen("학식", "규칙 응답").loadCassette(cassette);
+
+        assertEquals("{\"intent\": \"학생식당\"}", client.chatAsync(request("오늘 학식 뭐야")).join().firstContent());
+        assertEquals("규칙 응답", client.chatAsync(request("내일 학식 뭐야")).join().firstContent());
+    }
+
+    @Test
+    void injectedErrorsSurfaceAsOpenAiException() {
+        stub.errors(1.0, 429);
+
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> client.chatAsync(request("도서관 몇시까지")).join());
+
+        OpenAiException cause = assertInstanceOf(OpenAiException.class, error.getCause());
+        assertEquals(429, cause.getStatusCode());
+    }
+
+    @Test
+    void streamingDeliversDeltasAndUsage() {
+        stub.defaultResponse(prompt -> "학교 근처 맛집을 알려드릴게요.").streamChunkSize(3);
+        List<String> deltas = new ArrayList<>();
+
+        ChatCompletionResponseDto response = client.streamChatAsync(request("학교 근처 맛집"), Duration.ofSeconds(5), deltas::add).join();
+
+        assertTrue(deltas.size() > 1);
+        assertEquals("학교 근처 맛집을 알려드릴게요.", String.join("", deltas));
+        assertEquals("학교 근처 맛집을 알려드릴게요.", response.firstContent());
+        assertNotNull(response.getUsage());
+    }
+
+    @Test
+    void latencyDistributionDelaysResponses() {
+        stub.latency(StubLatency.fixed(Duration.ofMillis(200)));
+
+        long startedAt = System.nanoTime();
+        client.chatAsync(request("기숙사 통금")).join();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).toMillis() >= 200);
+    }
+
+    private ChatCompletionRequestDto request(String prompt) {
+        return new ChatCompletionRequestDto("stub", 0.0, 100, List.of(ChatMessageDto.user(prompt)));
+    }
+}
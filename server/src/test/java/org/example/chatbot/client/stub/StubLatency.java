@@ -0,0 +1,35 @@
+package org.example.chatbot.client.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 서버의 응답 지연 분포입니다.
+ * median과 p99를 받아 로그정규분포로 지연을 뽑으며, p99가 median 이하이면 고정 지연으로 동작합니다.
+ */
+public record StubLatency(Duration median, Duration p99) {
+
+    private static final double Z_99 = 2.326;
+
+    public static StubLatency none() {
+        return new StubLatency(Duration.ZERO, Duration.ZERO);
+    }
+
+    public static StubLatency fixed(Duration latency) {
+        return new StubLatency(latency, latency);
+    }
+
+    public static StubLatency logNormal(Duration median, Duration p99) {
+        return new StubLatency(median, p99);
+    }
+
+    public long sampleMillis() {
+        long medianMs = median.toMillis();
+        if (medianMs <= 0) return 0;
+        if (p99.compareTo(median) <= 0) return medianMs;
+
+        double sigma = Math.log((double) p99.toMillis() / medianMs) / Z_99;
+        double sample = medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.round(sample);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.chatbot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.client.stub.OpenAiStubServer;
+import org.example.chatbot.client.stub.StubLatency;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * openai-stub / benchmark 프로필에서 OpenAI 대신 응답하는 로컬 스텁 서버를 띄웁니다.
+ * openai.api.url 을 http://127.0.0.1:{openai.stub.port}/v1/chat/completions 로 지정해야 스텁으로 요청이 갑니다.
+ * 카세트가 없으면 프롬프트 종류(정제/분류/one-shot/식단 포맷/일반 답변)를 보고 그럴듯한 응답을 만들어 냅니다.
+ * 테스트 소스에만 있으므로 ./gradlew bootTestRun 으로 실행할 때만 사용할 수 있습니다.
+ */
+@Slf4j
+@Configuration
+@Profile({"openai-stub", "benchmark"})
+public class OpenAiStubConfig {
+
+    private static final List<String> STUB_INTENTS = List.of(
+            "학생식당", "교직원식당", "기숙사식당", "학사공지", "장학공지", "한경공지", "학사일정", "전체공지"
+    );
+    private static final Pattern BATCH_ID = Pattern.compile("^### id=(\\d+)", Pattern.MULTILINE);
+    private static final String STUB_MENU = "[점심] 12:00~13:00\n- 스텁 메뉴";
+
+    @Bean(destroyMethod = "close")
+    public OpenAiStubServer openAiStubServer(
+            ObjectMapper objectMapper,
+            @Value("${openai.stub.port:18080}") int port,
+            @Value("${openai.stub.cassette:}") String cassette,
+            @Value("${openai.stub.latency.median:400ms}") Duration median,
+            @Value("${openai.stub.latency.p99:2s}") Duration p99,
+            @Value("${openai.stub.error-rate:0}") double errorRate,
+            @Value("${openai.stub.error-status:429}") int errorStatus) throws IOException {
+        OpenAiStubServer server = new OpenAiStubServer(objectMapper)
+                .latency(StubLatency.logNormal(median, p99))
+                .errors(errorRate, errorStatus)
+                .respondWhen("\"normalized\"", prompt -> classifyJson(objectMapper, prompt.user(), true))
+                .respondWhen("정보 추출기", prompt -> classifyJson(objectMapper, prompt.user(), false))
+                .respondWhen("사용자 입력을 정제해주는 역할", OpenAiStubServer.StubPrompt::user)
+                .respondWhen("### id=", prompt -> batchFormatJson(objectMapper, prompt.user()))
+                .respondWhen("기숙사 식단 메뉴를", prompt -> STUB_MENU);
+
+        if (!cassette.isBlank()) {
+            server.loadCassette(Path.of(cassette));
+        }
+        return server.start(port);
+    }
+
+    /**
+     * 입력에 따옴표·줄바꿈이 있어도 올바른 JSON이 되도록 ObjectMapper로 만듭니다.
+     */
+    private static String classifyJson(ObjectMapper objectMapper, String input, boolean oneShot) {
+        String intent = STUB_INTENTS.stream().filter(input::contains).findFirst().orElse("없음");
+        ObjectNode response = objectMapper.createObjectNode();
+        if (oneShot) response.put("normalized", input);
+        response.put("intent", intent);
+        response.putNull("keyword");
+        return response.toString();
+    }
+
+    /**
+     * 배치 식단 포맷 요청("### id=숫자")의 id마다 포맷팅 결과를 하나씩 돌려줍니다.
+     */
+    private static String batchFormatJson(ObjectMapper objectMapper, String input) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode menus = response.putArray("menus");
+        Matcher matcher = BATCH_ID.matcher(input);
+        while (matcher.find()) {
+            menus.addObject().put("id", Long.parseLong(matcher.group(1))).put("formatted", STUB_MENU);
+        }
+        return response.toString();
+    }
+}
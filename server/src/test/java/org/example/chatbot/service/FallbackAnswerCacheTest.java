@@ -0,0 +1,49 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FallbackAnswerCacheTest {
+
+    private static final String NEAR_RESTAURANT = "한경대학교 근처 맛집 추천해줘";
+
+    @Test
+    void reusesAnswerForNearDuplicateWithAddedWords() {
+        FallbackAnswerCache cache = newCache();
+        cache.put("학교 근처 맛집", "정문 앞 국밥집을 추천해요.");
+
+        assertEquals(Optional.of("정문 앞 국밥집을 추천해요."), cache.get("학교근처 맛집 추천"));
+    }
+
+    @Test
+    void doesNotReuseAnswerWhenContentWordDiffers() {
+        FallbackAnswerCache cache = newCache();
+        cache.put(NEAR_RESTAURANT, "정문 앞 국밥집을 추천해요.");
+
+        assertEquals(Optional.empty(), cache.get("한경대학교 근처 술집 추천해줘"));
+    }
+
+    @Test
+    void isSubstitutionOnlyWhenBothSidesHaveUniqueCharacters() {
+        assertTrue(FallbackAnswerCache.isSubstitution("근처맛집", "근처술집"));
+        assertFalse(FallbackAnswerCache.isSubstitution("근처맛집", "근처맛집추천"));
+        assertFalse(FallbackAnswerCache.isSubstitution("근처맛집추천", "근처맛집"));
+    }
+
+    private static FallbackAnswerCache newCache() {
+        FallbackAnswerCache cache = new FallbackAnswerCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "similarityThreshold", 0.7);
+        ReflectionTestUtils.setField(cache, "minSimilarLength", 5);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        return cache;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.chatbot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigramIndexTest {
+
+    private static final List<String> CORPUS = List.of(
+            "2025학년도 1학기 수강신청 안내",
+            "2025학년도 2학기 수강신청 일정 변경",
+            "국가장학금 2차 신청 안내",
+            "기숙사 입사 신청 결과 발표",
+            "COVID-19 예방접종 안내",
+            "Covid 검사 지원 종료",
+            "도서관 휴관 안내",
+            "학",
+            "ㅋㅋㅋ 이벤트",
+            "중간고사 기간 도서관 24시간 개방",
+            "졸업 학점 이수 기준 안내 (2025)",
+            "");
+
+    private static final List<String> QUERIES = List.of(
+            "", "학", "안내", "수강신청", "2학기", "covid", "COVID-19", "Covid 검사",
+            "ㅋㅋ", "ㅋㅋㅋ", "ㅋㅋㅋㅋ", "도서관", "24", "(2025)", "신청 안내", "없는 단어", "내 (", "z");
+
+    @Test
+    void searchMatchesStringContains() {
+        assertMatchesContains(BigramIndex.of(CORPUS, Function.identity()), CORPUS);
+    }
+
+    @Test
+    void plusMatchesStringContainsAndLeavesOriginalUntouched() {
+        List<String> head = CORPUS.subList(0, 5);
+        BigramIndex<String> original = BigramIndex.of(head, Function.identity());
+        BigramIndex<String> extended = original.plus(CORPUS.subList(5, CORPUS.size()));
+
+        assertMatchesContains(original, head);
+        assertMatchesContains(extended, CORPUS);
+    }
+
+    @Test
+    void syncAppendsOrRebuildsAndMatchesStringContains() {
+        List<String> rows = new ArrayList<>(CORPUS.subList(0, 6));
+        BigramIndex<String> previous = BigramIndex.of(rows, Function.identity());
+        assertMatchesContains(previous, rows);
+
+        rows.addAll(CORPUS.subList(6, CORPUS.size()));
+        BigramIndex<String> appended = BigramIndex.sync(previous, rows, Function.identity());
+        assertMatchesContains(appended, rows);
+
+        List<String> replaced = new ArrayList<>(CORPUS);
+        replaced.set(0, "2026학년도 1학기 수강신청 안내");
+        assertMatchesContains(BigramIndex.sync(appended, replaced, Function.identity()), replaced);
+
+        List<String> shrunk = CORPUS.subList(2, 8);
+        assertMatchesContains(BigramIndex.sync(appended, shrunk, Function.identity()), shrunk);
+
+        assertMatchesContains(BigramIndex.sync(null, CORPUS, Function.identity()), CORPUS);
+    }
+
+    private static void assertMatchesContains(BigramIndex<String> index, List<String> documents) {
+        assertEquals(documents.size(), index.size());
+        for (String query : QUERIES) {
+            String needle = query.toLowerCase(Locale.ROOT);
+            List<String> expected = documents.stream()
+                    .filter(document -> document.toLowerCase(Locale.ROOT).contains(needle))
+                    .toList();
+            assertEquals(expected, index.search(query), "query '" + query + "'");
+        }
+    }
+}
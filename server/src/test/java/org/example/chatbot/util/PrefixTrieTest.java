@@ -0,0 +1,73 @@
+package org.example.chatbot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    @Test
+    void completeOrdersByWeightThenShorterText() {
+        PrefixTrie<String> trie = PrefixTrie.<String>builder()
+                .add("수강신청 안내", "low", 1)
+                .add("수강신청 일정 변경", "high", 5)
+                .add("수강정정 안내", "tie-long", 3)
+                .add("수강 철회", "tie-short", 3)
+                .add("기숙사 입사", "other", 10)
+                .build();
+
+        assertEquals(List.of("high", "tie-short", "tie-long", "low"), trie.complete("수강", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("high", "low"), trie.complete("수강신", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("high", "tie-short"), trie.complete("수강", 2));
+        assertEquals(List.of(), trie.complete("도서관", PrefixTrie.MAX_RESULTS));
+    }
+
+    @Test
+    void completeKeepsHighestWeightsWhenMoreThanMaxResultsMatch() {
+        PrefixTrie.Builder<Integer> builder = PrefixTrie.builder();
+        IntStream.range(0, 25).forEach(i -> builder.add("공지 " + i, i, i));
+        PrefixTrie<Integer> trie = builder.build();
+
+        assertEquals(IntStream.iterate(24, i -> i >= 15, i -> i - 1).boxed().toList(),
+                trie.complete("공지", PrefixTrie.MAX_RESULTS));
+        assertEquals(PrefixTrie.MAX_RESULTS, trie.complete("공지", 100).size());
+    }
+
+    @Test
+    void entryIndexedUnderSeveralWordStartsIsReturnedOnce() {
+        PrefixTrie<String> trie = PrefixTrie.<String>builder()
+                .add("수강 신청 수강 변경", "repeated", 2)
+                .add("학사 학위 수여식", "degree", 1)
+                .build();
+
+        assertEquals(List.of("repeated"), trie.complete("수강", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("repeated"), trie.complete("신청", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("degree"), trie.complete("학", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("degree"), trie.complete("학사", PrefixTrie.MAX_RESULTS));
+    }
+
+    @Test
+    void prefixLongerThanMaxDepthIsFilteredByFullKey() {
+        // "중간고사기간도서" (8자)까지 같은 항목들: 9자째부터는 깊이 8 노드의 bucket을 걸러 답한다
+        PrefixTrie.Builder<String> builder = PrefixTrie.<String>builder()
+                .add("중간고사 기간 도서 대출 연장", "loan", 100)
+                .add("2학기 중간고사 기간 도서관 야간 개방", "second-word", 50);
+        IntStream.range(0, 15).forEach(i -> builder.add("중간고사 기간 도서관 " + i + "층 개방", "floor-" + i, i));
+        PrefixTrie<String> trie = builder.build();
+
+        List<String> longPrefix = trie.complete("중간고사 기간 도서관", PrefixTrie.MAX_RESULTS);
+        assertEquals(PrefixTrie.MAX_RESULTS, longPrefix.size());
+        assertEquals("second-word", longPrefix.get(0));
+        assertEquals(IntStream.iterate(14, i -> i >= 6, i -> i - 1).mapToObj(i -> "floor-" + i).toList(),
+                longPrefix.subList(1, longPrefix.size()));
+        assertFalse(longPrefix.contains("loan"));
+
+        assertEquals(List.of("loan", "second-word"), trie.complete("중간고사기간도서", 2));
+        assertEquals(List.of("loan"), trie.complete("중간고사 기간 도서 대출", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of("floor-3"), trie.complete("중간고사 기간 도서관 3층", PrefixTrie.MAX_RESULTS));
+        assertEquals(List.of(), trie.complete("중간고사 기간 도서관 휴관", PrefixTrie.MAX_RESULTS));
+    }
+}
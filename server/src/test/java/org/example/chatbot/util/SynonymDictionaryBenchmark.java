@@ -0,0 +1,99 @@
+package org.example.chatbot.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 동의어 사전의 요청당 비용 측정용 벤치마크입니다. (JUnit 테스트가 아니며 ./gradlew synonymBenchmark 로 실행)
+ *
+ * - 기본 사전(synonyms.txt)으로 채팅 한 건이 하는 조회(식당 별칭 + 식사 시간 + 키워드 확장)의 건당 시간
+ * - 같은 조회를 예전 하드코딩 contains 분기로 했을 때의 건당 시간
+ * - 그룹 수를 늘린 사전에서 같은 조회와 사전 컴파일(핫 리로드) 시간
+ */
+public class SynonymDictionaryBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "오늘 학식 뭐나와?", "내일 교식 점심 메뉴 알려줘", "이번주 기숙사식당 저녁", "학생식당 건강한끼 뭐야",
+            "7월 8일 맛난 메뉴", "졸업 일정 언제야", "2학기 수강신청 기간 알려줘", "기식 아침 나옴?",
+            "이번 달 장학공지 뭐 있어", "학위수여식 언제 하나요");
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURE_ROUNDS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        SynonymDictionary dictionary = SynonymDictionary.parse(defaultLines());
+        System.out.printf("기본 사전: %d개 그룹%n", dictionary.size());
+
+        report("사전 조회 (식당 + 식사 시간 + 키워드 확장)", input -> {
+            dictionary.canonical("cafeteria", input);
+            dictionary.canonical("meal-time", input);
+            dictionary.expand("keyword", input);
+        });
+        report("기존 하드코딩 분기", SynonymDictionaryBenchmark::hardCoded);
+
+        for (int groups : new int[]{1_000, 10_000}) {
+            List<String> lines = new ArrayList<>(defaultLines());
+            lines.add("[keyword]");
+            for (int i = 0; i < groups; i++) {
+                lines.add("용어" + i + " = 별칭" + i + "가, 별칭" + i + "나");
+            }
+
+            long started = System.nanoTime();
+            SynonymDictionary large = SynonymDictionary.parse(lines);
+            System.out.printf("%n그룹 %d개 사전 컴파일: %.1fms%n", large.size(), (System.nanoTime() - started) / 1e6);
+            report("그룹 " + large.size() + "개 사전 조회", input -> {
+                large.canonical("cafeteria", input);
+                large.canonical("meal-time", input);
+                large.expand("keyword", input);
+            });
+        }
+    }
+
+    private static void report(String name, Consumer<String> lookup) {
+        run(lookup, WARMUP_ROUNDS);
+        long started = System.nanoTime();
+        run(lookup, MEASURE_ROUNDS);
+        double nanosPerRequest = (double) (System.nanoTime() - started) / MEASURE_ROUNDS;
+        System.out.printf("%-40s %8.0f ns/요청%n", name, nanosPerRequest);
+    }
+
+    private static void run(Consumer<String> lookup, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            lookup.accept(INPUTS.get(i % INPUTS.size()));
+        }
+    }
+
+    /**
+     * 사전 도입 전 SlotResolveService / DateTimeExtractor / GptController의 분기와 같은 조회
+     */
+    private static void hardCoded(String input) {
+        String cafeteria = null;
+        if (input.contains("학식") || input.contains("학생식당")) cafeteria = "학생식당";
+        else if (input.contains("교식") || input.contains("교직원식당")) cafeteria = "교직원식당";
+        else if (input.contains("기식") || input.contains("기숙사식당")) cafeteria = "기숙사식당";
+
+        String mealTime = null;
+        if (input.contains("맛난")) mealTime = "맛난한끼";
+        else if (input.contains("건강")) mealTime = "건강한끼";
+        else if (input.contains("아침")) mealTime = "아침";
+        else if (input.contains("점심")) mealTime = "점심";
+        else if (input.contains("저녁")) mealTime = "저녁";
+
+        String keyword = input;
+        if (input.contains("졸업")) keyword = "학위수여";
+        else if (input.contains("학위수여")) keyword = "졸업";
+
+        if (cafeteria == null && mealTime == null && keyword == null) throw new IllegalStateException();
+    }
+
+    private static List<String> defaultLines() throws IOException {
+        try (InputStream in = SynonymDictionaryBenchmark.class.getClassLoader().getResourceAsStream("synonyms.txt")) {
+            if (in == null) throw new IOException("classpath:synonyms.txt 가 없습니다");
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.chatbot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SynonymDictionaryTest {
+
+    @Test
+    void parseReadsGroupsPerCategoryAndIgnoresComments() {
+        SynonymDictionary dictionary = SynonymDictionary.parse(List.of(
+                "# 주석",
+                "[cafeteria]",
+                "학생식당 = 학식, 학생 식당  # 줄 끝 주석",
+                "",
+                "[meal-time]",
+                "아침"));
+
+        assertEquals(2, dictionary.size());
+        assertEquals("학생식당", dictionary.canonical("cafeteria", "학식"));
+        assertEquals("아침", dictionary.canonical("meal-time", "아침 뭐야"));
+        assertNull(dictionary.canonical("meal-time", "학식"));
+    }
+
+    @Test
+    void parseRejectsMalformedLines() {
+        assertThrows(IllegalArgumentException.class, () -> SynonymDictionary.parse(List.of("학생식당 = 학식")));
+        assertThrows(IllegalArgumentException.class, () -> SynonymDictionary.parse(List.of("[cafeteria]", "= 학식")));
+    }
+
+    @Test
+    void canonicalResolvesCafeteriaAliases() throws IOException {
+        SynonymDictionary dictionary = defaultDictionary();
+
+        assertEquals("학생식당", dictionary.canonical("cafeteria", "오늘 학식 뭐나와?"));
+        assertEquals("학생식당", dictionary.canonical("cafeteria", "학생 식당 메뉴"));
+        assertEquals("교직원식당", dictionary.canonical("cafeteria", "내일 교식 점심"));
+        assertEquals("기숙사식당", dictionary.canonical("cafeteria", "기식 아침 나옴?"));
+        assertNull(dictionary.canonical("cafeteria", "도서관 몇시까지"));
+    }
+
+    @Test
+    void canonicalPrefersEarlierGroup() throws IOException {
+        SynonymDictionary dictionary = defaultDictionary();
+
+        assertEquals("맛난한끼", dictionary.canonical("meal-time", "건강 말고 맛난 메뉴"));
+        assertEquals("건강한끼", dictionary.canonical("meal-time", "건강한끼 점심 뭐야"));
+    }
+
+    /**
+     * 학생식당 "점심"은 사전에서 그대로 점심으로 찾고, 건강한끼/맛난한끼를 모두 보여 주는 처리는 GptController.adjustMealTime이 합니다.
+     */
+    @Test
+    void canonicalFindsLunchForStudentCafeteria() throws IOException {
+        SynonymDictionary dictionary = defaultDictionary();
+
+        assertEquals("학생식당", dictionary.canonical("cafeteria", "학식 점심 뭐야"));
+        assertEquals("점심", dictionary.canonical("meal-time", "학식 점심 뭐야"));
+    }
+
+    @Test
+    void expandAddsOtherTermsOfTheGroup() throws IOException {
+        SynonymDictionary dictionary = defaultDictionary();
+
+        assertEquals(List.of("졸업", "학위수여"), dictionary.expand("keyword", "졸업"));
+        assertEquals(List.of("학위수여", "졸업"), dictionary.expand("keyword", "학위수여"));
+        assertEquals(List.of("수강신청"), dictionary.expand("keyword", "수강신청"));
+        assertEquals(List.of(), dictionary.expand("keyword", " "));
+        assertEquals(List.of(), dictionary.expand("keyword", null));
+    }
+
+    private static SynonymDictionary defaultDictionary() throws IOException {
+        try (InputStream in = SynonymDictionaryTest.class.getClassLoader().getResourceAsStream("synonyms.txt")) {
+            assertNotNull(in);
+            return SynonymDictionary.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+        }
+    }
+}